@@ -0,0 +1,32 @@
+package com.orvian.travelapi.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Configurações do cache em memória do catálogo de pacotes
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "orvian.cache.catalog")
+public class CatalogCacheProperties {
+
+    /**
+     * Quantidade máxima de pacotes mantidos em cada cache (listagem e detalhe)
+     */
+    private long maxEntries = 1000;
+
+    /**
+     * Quantidade máxima de páginas de listagem/busca mantidas em cache
+     */
+    private long maxPages = 500;
+
+    /**
+     * Tempo de vida de cada entrada após ser gravada
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,52 @@
+package com.orvian.travelapi.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Configurações da fila de saída de emails (outbox)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "orvian.email.outbox")
+public class EmailOutboxProperties {
+
+    /**
+     * Quantidade de workers enviando emails ao mesmo tempo
+     */
+    private int workers = 2;
+
+    /**
+     * Quantidade de emails enviados por conexão SMTP
+     */
+    private int batchSize = 20;
+
+    /**
+     * Quantidade de emails gravados por flush em enfileiramentos em massa
+     */
+    private int enqueueBatchSize = 500;
+
+    /**
+     * Tentativas antes de marcar o email como FALHOU
+     */
+    private int maxAttempts = 6;
+
+    /**
+     * Espera antes da primeira nova tentativa; dobra a cada falha
+     */
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    /**
+     * Espera máxima entre tentativas
+     */
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    /**
+     * Tempo após o qual um email em ENVIANDO é considerado abandonado
+     */
+    private Duration sendingTimeout = Duration.ofMinutes(10);
+}
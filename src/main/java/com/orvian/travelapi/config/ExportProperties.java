@@ -0,0 +1,44 @@
+package com.orvian.travelapi.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Configurações das exportações assíncronas de reservas
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "orvian.export")
+public class ExportProperties {
+
+    /**
+     * Diretório local onde o arquivo é gerado antes de ser gravado no banco
+     */
+    private String spoolDir = Path.of(System.getProperty("java.io.tmpdir"), "orvian-exports").toString();
+
+    /**
+     * Quantidade máxima de exportações gerando ao mesmo tempo
+     */
+    private int maxConcurrentJobs = 2;
+
+    /**
+     * Quantidade máxima de exportações aguardando na fila
+     */
+    private int queueCapacity = 20;
+
+    /**
+     * Tempo que um arquivo gerado continua disponível para download e reuso
+     */
+    private Duration resultTtl = Duration.ofMinutes(30);
+
+    /**
+     * Tempo sem atualização após o qual um job pendente ou em processamento é
+     * considerado abandonado (instância derrubada no meio da geração)
+     */
+    private Duration processingTimeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,38 @@
+package com.orvian.travelapi.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Configurações da expiração de reservas PENDENTE sem pagamento aprovado
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "orvian.reservation.expiry")
+public class ReservationExpiryProperties {
+
+    /**
+     * Liga ou desliga a execução agendada (a execução manual continua
+     * disponível)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Tempo que uma reserva pode ficar PENDENTE sem pagamento aprovado
+     */
+    private Duration holdTtl = Duration.ofHours(24);
+
+    /**
+     * Reservas canceladas por transação
+     */
+    private int batchSize = 200;
+
+    /**
+     * Limite de lotes por execução; o restante fica para a próxima
+     */
+    private int maxBatchesPerRun = 50;
+}
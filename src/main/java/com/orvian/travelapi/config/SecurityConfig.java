@@ -46,12 +46,17 @@ public class SecurityConfig {
                 // Consulta de pacotes disponível para todos (incluindo não autenticados)
                 .requestMatchers(HttpMethod.GET, "/api/v1/packages").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/packages/**").permitAll()
+                // Conteúdo binário das mídias dos pacotes
+                .requestMatchers(HttpMethod.GET, "/api/v1/media/**").permitAll()
                 // ===== OPERAÇÕES ADMINISTRATIVAS - SOMENTE ADMIN =====
                 // Gestão completa de usuários - apenas ADMIN
                 .requestMatchers(HttpMethod.POST, "/api/v1/users/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/api/v1/users/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/v1/users/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.GET, "/api/v1/admin/**").hasAnyRole("ADMIN", "ATENDENTE")
+                // Atualização manual do painel - ADMIN e ATENDENTE; demais ações administrativas - apenas ADMIN
+                .requestMatchers(HttpMethod.POST, "/api/v1/admin/dashboard-week/refresh").hasAnyRole("ADMIN", "ATENDENTE")
+                .requestMatchers(HttpMethod.POST, "/api/v1/admin/**").hasRole("ADMIN")
                 // Gestão de pacotes - apenas ADMIN pode modificar
                 .requestMatchers(HttpMethod.POST, "/api/v1/packages/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/api/v1/packages/**").hasRole("ADMIN")
@@ -59,7 +64,13 @@ public class SecurityConfig {
                 // ===== VISUALIZAÇÕES - ADMIN E ATENDENTE =====
                 // Listagem de usuários - ADMIN e ATENDENTE podem visualizar
                 .requestMatchers(HttpMethod.GET, "/api/v1/users").hasAnyRole("ADMIN", "ATENDENTE")
+                .requestMatchers(HttpMethod.GET, "/api/v1/users/cursor").hasAnyRole("ADMIN", "ATENDENTE")
                 .requestMatchers(HttpMethod.GET, "/api/v1/users/{id}").authenticated()
+                // Exportações assíncronas de reservas - ADMIN e ATENDENTE
+                .requestMatchers(HttpMethod.GET, "/api/v1/reservations/export-jobs/**").hasAnyRole("ADMIN", "ATENDENTE")
+                .requestMatchers(HttpMethod.POST, "/api/v1/reservations/export-jobs").hasAnyRole("ADMIN", "ATENDENTE")
+                // Cancelamento de todas as reservas de uma saída - ADMIN e ATENDENTE
+                .requestMatchers(HttpMethod.POST, "/api/v1/reservations/package-dates/{packageDateId}/cancel").hasAnyRole("ADMIN", "ATENDENTE")
                 // Visualização de reservas de outros - ADMIN e ATENDENTE
                 .requestMatchers(HttpMethod.GET, "/api/v1/reservations/**").authenticated()
                 // Visualização de pagamentos de outros - ADMIN e ATENDENTE
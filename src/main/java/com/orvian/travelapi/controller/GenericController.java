@@ -1,7 +1,12 @@
 package com.orvian.travelapi.controller;
 
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.orvian.travelapi.controller.dto.pagination.CursorPageDTO;
+
 import java.net.URI;
 import java.util.UUID;
 
@@ -18,4 +23,22 @@ public interface GenericController {
                 .buildAndExpand(id)
                 .toUri();
     }
+
+    /*
+        Adiciona os links self e next (com o cursor da próxima página) a uma listagem por cursor,
+        no mesmo formato de links das respostas PagedModel.
+     */
+    default <T> EntityModel<CursorPageDTO<T>> toCursorModel(CursorPageDTO<T> page) {
+        EntityModel<CursorPageDTO<T>> model = EntityModel.of(page,
+                Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+
+        if (page.nextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .toUriString();
+            model.add(Link.of(next).withRel(IanaLinkRelations.NEXT));
+        }
+
+        return model;
+    }
 }
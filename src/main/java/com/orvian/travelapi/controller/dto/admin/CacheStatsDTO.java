@@ -0,0 +1,11 @@
+package com.orvian.travelapi.controller.dto.admin;
+
+public record CacheStatsDTO(
+        String name,
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount
+) {
+}
@@ -2,12 +2,17 @@ package com.orvian.travelapi.controller.dto.admin;
 
 import com.orvian.travelapi.controller.dto.travelpackage.PaymentByPackageDTO;
 
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public record DashboardDTO(
         Integer newUsers,
         Integer newPackages,
         WeekRatingDTO weekRating,
-        List<PaymentByPackageDTO> salesByPackage
+        List<PaymentByPackageDTO> salesByPackage,
+        @Schema(description = "Momento em que os indicadores foram calculados (UTC)")
+        LocalDateTime generatedAt
 ) {
 }
@@ -0,0 +1,13 @@
+package com.orvian.travelapi.controller.dto.admin;
+
+import java.time.LocalDateTime;
+
+public record EmailOutboxStatsDTO(
+        long pending,
+        long sending,
+        long sent,
+        long failed,
+        LocalDateTime oldestPendingAt,
+        int activeWorkers
+) {
+}
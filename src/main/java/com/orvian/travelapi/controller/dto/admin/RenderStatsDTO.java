@@ -0,0 +1,10 @@
+package com.orvian.travelapi.controller.dto.admin;
+
+public record RenderStatsDTO(
+        String name,
+        long count,
+        double averageMillis,
+        double maxMillis,
+        double lastMillis
+) {
+}
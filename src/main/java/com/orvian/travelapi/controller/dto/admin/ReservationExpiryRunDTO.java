@@ -0,0 +1,15 @@
+package com.orvian.travelapi.controller.dto.admin;
+
+import java.time.LocalDateTime;
+
+public record ReservationExpiryRunDTO(
+        LocalDateTime startedAt,
+        LocalDateTime cutoff,
+        long durationMillis,
+        int batches,
+        int cancelledReservations,
+        int releasedSeats,
+        long maxBatchMillis,
+        boolean batchLimitReached
+) {
+}
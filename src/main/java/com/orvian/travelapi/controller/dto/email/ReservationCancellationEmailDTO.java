@@ -0,0 +1,32 @@
+package com.orvian.travelapi.controller.dto.email;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO com os dados de uma reserva cancelada junto com a sua data de pacote,
+ * usado no email de aviso e para devolver as vagas (totalTravelers)
+ */
+@Schema(description = "Dados para envio de email de cancelamento de reserva")
+public record ReservationCancellationEmailDTO(
+        @Schema(description = "ID único da reserva cancelada", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID reservationId,
+        @Schema(description = "Nome completo do cliente", example = "João Silva")
+        String customerName,
+        @Schema(description = "Email do destinatário", example = "joao@email.com")
+        String customerEmail,
+        @Schema(description = "Título do pacote de viagem", example = "Viagem Incrível para Paris")
+        String packageTitle,
+        @Schema(description = "Destino da viagem", example = "Paris, França")
+        String packageDestination,
+        @Schema(description = "Data de início da viagem", example = "2024-08-15")
+        LocalDate tripStartDate,
+        @Schema(description = "Data de término da viagem", example = "2024-08-22")
+        LocalDate tripEndDate,
+        @Schema(description = "Número de viajantes cadastrados na reserva", example = "2")
+        Long totalTravelers
+        ) {
+
+}
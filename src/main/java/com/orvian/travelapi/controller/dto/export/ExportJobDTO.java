@@ -0,0 +1,22 @@
+package com.orvian.travelapi.controller.dto.export;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.orvian.travelapi.domain.enums.ExportFormat;
+import com.orvian.travelapi.domain.enums.ExportJobStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record ExportJobDTO(
+        UUID id,
+        ExportFormat format,
+        ExportJobStatus status,
+        String fileName,
+        @Schema(description = "Tamanho do arquivo gerado, presente quando o status é CONCLUIDO")
+        Long sizeBytes,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {
+}
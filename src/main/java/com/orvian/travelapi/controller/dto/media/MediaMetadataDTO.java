@@ -0,0 +1,17 @@
+package com.orvian.travelapi.controller.dto.media;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Dados de uma mídia sem o conteúdo binário, usados em listagens e
+ * validações para não carregar o VARBINARY(MAX) no heap.
+ */
+public record MediaMetadataDTO(
+        UUID id,
+        String type,
+        UUID travelPackageId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -2,9 +2,18 @@ package com.orvian.travelapi.controller.dto.media;
 
 import java.util.UUID;
 
+import io.swagger.v3.oas.annotations.media.Schema;
+
 public record SearchMediaDTO(
         UUID id,
         String type,
-        String contentType
+        @Schema(description = "Endereço para download do conteúdo binário da mídia", example = "/api/v1/media/d290f1ee-6c54-4b01-90e6-d701748f0851")
+        String url
 ) {
+
+    public static final String MEDIA_PATH = "/api/v1/media/";
+
+    public static SearchMediaDTO of(UUID id, String type) {
+        return new SearchMediaDTO(id, type, MEDIA_PATH + id);
+    }
 }
@@ -0,0 +1,23 @@
+package com.orvian.travelapi.controller.dto.pagination;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Página de uma listagem por cursor (keyset). Em vez de número de página, o
+ * cliente envia o nextCursor recebido para obter a página seguinte.
+ */
+public record CursorPageDTO<T>(
+        List<T> content,
+        int size,
+        @Schema(description = "Cursor da próxima página; ausente quando esta é a última")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor,
+        @Schema(description = "Total de registros, presente apenas quando solicitado com withTotal=true")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long totalElements
+) {
+}
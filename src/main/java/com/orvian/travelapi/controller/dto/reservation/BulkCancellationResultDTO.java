@@ -0,0 +1,19 @@
+package com.orvian.travelapi.controller.dto.reservation;
+
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado do cancelamento de todas as reservas de uma data de pacote")
+public record BulkCancellationResultDTO(
+        @Schema(description = "Data de pacote cancelada", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID packageDateId,
+        @Schema(description = "Quantidade de reservas canceladas", example = "120")
+        int cancelledReservations,
+        @Schema(description = "Vagas devolvidas para a data de pacote", example = "245")
+        int releasedSeats,
+        @Schema(description = "Emails de aviso enfileirados", example = "120")
+        int notificationsQueued
+        ) {
+
+}
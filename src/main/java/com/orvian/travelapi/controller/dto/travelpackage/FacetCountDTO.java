@@ -0,0 +1,12 @@
+package com.orvian.travelapi.controller.dto.travelpackage;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FacetCountDTO(
+        @Schema(description = "Valor a ser enviado no filtro correspondente", example = "1000-2500")
+        String value,
+        @Schema(description = "Quantidade de pacotes com este valor, considerando os demais filtros")
+        long count
+        ) {
+
+}
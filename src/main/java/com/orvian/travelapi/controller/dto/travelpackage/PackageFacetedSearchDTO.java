@@ -0,0 +1,12 @@
+package com.orvian.travelapi.controller.dto.travelpackage;
+
+/**
+ * Resultado de uma busca facetada: a página de pacotes e as contagens de cada
+ * faceta, na mesma resposta.
+ */
+public record PackageFacetedSearchDTO<T>(
+        T results,
+        PackageFacetsDTO facets
+        ) {
+
+}
@@ -0,0 +1,12 @@
+package com.orvian.travelapi.controller.dto.travelpackage;
+
+import java.util.List;
+
+public record PackageFacetsDTO(
+        List<FacetCountDTO> destinations,
+        List<FacetCountDTO> priceBands,
+        List<FacetCountDTO> durations,
+        List<FacetCountDTO> startMonths
+        ) {
+
+}
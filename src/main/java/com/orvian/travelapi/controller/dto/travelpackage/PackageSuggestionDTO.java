@@ -0,0 +1,25 @@
+package com.orvian.travelapi.controller.dto.travelpackage;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record PackageSuggestionDTO(
+        @Schema(description = "ID do pacote; ausente em sugestões de destino")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        UUID id,
+        String label,
+        @Schema(description = "Origem da sugestão", allowableValues = {"TITLE", "DESTINATION"})
+        String type
+        ) {
+
+    public static PackageSuggestionDTO title(UUID id, String label) {
+        return new PackageSuggestionDTO(id, label, "TITLE");
+    }
+
+    public static PackageSuggestionDTO destination(String label) {
+        return new PackageSuggestionDTO(null, label, "DESTINATION");
+    }
+}
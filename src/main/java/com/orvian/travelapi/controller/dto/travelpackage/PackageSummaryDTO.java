@@ -0,0 +1,35 @@
+package com.orvian.travelapi.controller.dto.travelpackage;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Visão resumida de um pacote para os cards de listagem (view=summary).
+ */
+public record PackageSummaryDTO(
+        UUID id,
+        String title,
+        String destination,
+        BigDecimal price,
+        int duration,
+        @Schema(description = "Próxima data de saída a partir de hoje; ausente se não houver", example = "2025-07-01")
+        LocalDate nextDeparture,
+        @Schema(description = "Endereço da primeira mídia do pacote", example = "/api/v1/media/d290f1ee-6c54-4b01-90e6-d701748f0851")
+        String thumbnailUrl
+        ) {
+
+    /**
+     * Usado pela projeção JPQL; a miniatura é preenchida depois, em lote.
+     */
+    public PackageSummaryDTO(UUID id, String title, String destination, BigDecimal price, int duration,
+            LocalDate nextDeparture) {
+        this(id, title, destination, price, duration, nextDeparture, null);
+    }
+
+    public PackageSummaryDTO withThumbnailUrl(String url) {
+        return new PackageSummaryDTO(id, title, destination, price, duration, nextDeparture, url);
+    }
+}
@@ -1,34 +1,74 @@
 package com.orvian.travelapi.controller.impl;
 
+import com.orvian.travelapi.controller.dto.admin.CacheStatsDTO;
 import com.orvian.travelapi.controller.dto.admin.DashboardDTO;
-import com.orvian.travelapi.domain.repository.RatingRepository;
-import com.orvian.travelapi.domain.repository.TravelPackageRepository;
-import com.orvian.travelapi.domain.repository.UserRepository;
+import com.orvian.travelapi.controller.dto.admin.EmailOutboxStatsDTO;
+import com.orvian.travelapi.controller.dto.admin.RenderStatsDTO;
+import com.orvian.travelapi.controller.dto.admin.ReservationExpiryRunDTO;
+import com.orvian.travelapi.service.DashboardService;
+import com.orvian.travelapi.service.cache.PackageCatalogCache;
+import com.orvian.travelapi.service.email.EmailOutboxDispatcher;
+import com.orvian.travelapi.service.pdf.VoucherPdfRenderer;
+import com.orvian.travelapi.service.reservation.ReservationExpiryReaper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/admin")
 @RequiredArgsConstructor
 @Slf4j
 public class AdminControllerImpl {
-    private final TravelPackageRepository packageRepository;
-    private final UserRepository userRepository;
-    private final RatingRepository ratingRepository;
+    private final DashboardService dashboardService;
+    private final PackageCatalogCache catalogCache;
+    private final EmailOutboxDispatcher emailOutbox;
+    private final VoucherPdfRenderer voucherRenderer;
+    private final ReservationExpiryReaper expiryReaper;
 
     @GetMapping("/dashboard-week")
     public ResponseEntity<DashboardDTO> dashboardWeek(){
-        DashboardDTO dashboard = new DashboardDTO(
-                userRepository.newUserThisWeek(),
-                packageRepository.newPackageThisWeek(),
-                ratingRepository.ratingAVGThisWeek(),
-                packageRepository.sumTotalByPackage()
-        );
-        return  ResponseEntity.ok(dashboard);
+        return ResponseEntity.ok(dashboardService.getWeekSnapshot());
+    }
+
+    @PostMapping("/dashboard-week/refresh")
+    public ResponseEntity<DashboardDTO> refreshDashboardWeek(){
+        log.info("Manual dashboard refresh requested");
+        return ResponseEntity.ok(dashboardService.refreshWeekSnapshot());
+    }
+
+    @GetMapping("/catalog-cache")
+    public ResponseEntity<List<CacheStatsDTO>> catalogCacheStats(){
+        return ResponseEntity.ok(catalogCache.stats());
+    }
+
+    @GetMapping("/email-outbox")
+    public ResponseEntity<EmailOutboxStatsDTO> emailOutboxStats(){
+        return ResponseEntity.ok(emailOutbox.stats());
+    }
+
+    @GetMapping("/voucher-render-stats")
+    public ResponseEntity<RenderStatsDTO> voucherRenderStats(){
+        return ResponseEntity.ok(voucherRenderer.stats());
+    }
+
+    @GetMapping("/reservation-expiry")
+    public ResponseEntity<ReservationExpiryRunDTO> lastReservationExpiryRun(){
+        ReservationExpiryRunDTO run = expiryReaper.lastRun();
+        return run != null ? ResponseEntity.ok(run) : ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/reservation-expiry/run")
+    public ResponseEntity<ReservationExpiryRunDTO> runReservationExpiry(){
+        log.info("Manual reservation expiry run requested");
+        ReservationExpiryRunDTO run = expiryReaper.expireHolds();
+        return run != null ? ResponseEntity.ok(run) : ResponseEntity.status(HttpStatus.CONFLICT).build();
     }
 
 }
@@ -0,0 +1,95 @@
+package com.orvian.travelapi.controller.impl;
+
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.orvian.travelapi.controller.dto.error.ResponseErrorDTO;
+import com.orvian.travelapi.controller.dto.media.MediaMetadataDTO;
+import com.orvian.travelapi.service.MediaService;
+import com.orvian.travelapi.service.exception.NotFoundException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/v1/media")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Mídias", description = "Download do conteúdo binário das mídias dos pacotes")
+public class MediaControllerImpl {
+
+    private static final CacheControl MEDIA_CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic();
+
+    private final MediaService mediaService;
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Baixar o conteúdo de uma mídia", description = "Retorna os bytes da mídia com Content-Type, ETag e Cache-Control. Responde 304 quando o If-None-Match confere.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Conteúdo da mídia"),
+        @ApiResponse(responseCode = "304", description = "Mídia não modificada"),
+        @ApiResponse(responseCode = "404", description = "Mídia não encontrada", content = @Content(schema = @Schema(implementation = ResponseErrorDTO.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> getMediaContent(@PathVariable UUID id, WebRequest request) {
+        MediaMetadataDTO media = mediaService.findMetadataById(id)
+                .orElseThrow(() -> new NotFoundException("Media not found with ID: " + id));
+
+        String eTag = buildETag(media);
+        if (request.checkNotModified(eTag)) {
+            // Status 304 e cabeçalhos já definidos pelo Spring
+            return null;
+        }
+
+        // O conteúdo só é lido do banco quando realmente será enviado, e em streaming
+        long length = mediaService.findContentLengthById(id)
+                .orElseThrow(() -> new NotFoundException("Media not found with ID: " + id));
+        return ResponseEntity.ok()
+                .contentType(resolveMediaType(media.type()))
+                .contentLength(length)
+                .eTag(eTag)
+                .cacheControl(MEDIA_CACHE_CONTROL)
+                .body(out -> mediaService.writeContent(id, out));
+    }
+
+    private static String buildETag(MediaMetadataDTO media) {
+        long version = media.updatedAt() != null ? media.updatedAt().toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        return "\"" + media.id() + "-" + version + "\"";
+    }
+
+    /**
+     * O tipo é gravado livremente pelo cliente: aceita tanto um MIME type
+     * ("image/png") quanto uma extensão ("png", ".jpg").
+     */
+    static MediaType resolveMediaType(String type) {
+        if (type == null || type.isBlank()) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        String value = type.trim().toLowerCase();
+        if (value.contains("/")) {
+            try {
+                return MediaType.parseMediaType(value);
+            } catch (IllegalArgumentException e) {
+                return MediaType.APPLICATION_OCTET_STREAM;
+            }
+        }
+        String extension = value.startsWith(".") ? value.substring(1) : value;
+        return MediaTypeFactory.getMediaType("media." + extension).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+}
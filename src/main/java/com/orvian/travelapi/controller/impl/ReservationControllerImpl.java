@@ -20,13 +20,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.orvian.travelapi.controller.GenericController;
+import com.orvian.travelapi.controller.dto.export.ExportJobDTO;
+import com.orvian.travelapi.controller.dto.pagination.CursorPageDTO;
+import com.orvian.travelapi.controller.dto.reservation.BulkCancellationResultDTO;
 import com.orvian.travelapi.controller.dto.reservation.CreateReservationDTO;
 import com.orvian.travelapi.controller.dto.reservation.ReservationDateDTO;
 import com.orvian.travelapi.controller.dto.reservation.ReservationSearchResultDTO;
+import com.orvian.travelapi.domain.enums.ExportFormat;
 import com.orvian.travelapi.domain.enums.ReservationSituation;
 import com.orvian.travelapi.domain.model.Reservation;
+import com.orvian.travelapi.service.ExportJobService;
 import com.orvian.travelapi.service.ReservationService;
 import com.orvian.travelapi.service.exception.AccessDeniedException;
 import com.orvian.travelapi.service.security.OrvianAuthorizationService;
@@ -53,6 +59,8 @@ public class ReservationControllerImpl implements GenericController {
 
     private final OrvianAuthorizationService authorizationService;
 
+    private final ExportJobService exportJobService;
+
     @PostMapping
     @Operation(summary = "Criar uma nova reserva", description = "Cria uma nova reserva com os detalhes fornecidos.")
     @ApiResponses({
@@ -98,6 +106,26 @@ public class ReservationControllerImpl implements GenericController {
         return ResponseEntity.ok(pagedModel);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar reservas por cursor", description = "Busca reservas em ordem de criação usando paginação por cursor (keyset), sem contagem total por padrão.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Reservas recuperadas com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<EntityModel<CursorPageDTO<ReservationSearchResultDTO>>> getReservationsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer pageSize,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        UUID effectiveUserId = authorizationService.getEffectiveUserIdForListing(userId);
+
+        CursorPageDTO<ReservationSearchResultDTO> page = reservationService.findAllByCursor(
+                cursor, pageSize, effectiveUserId, withTotal);
+        return ResponseEntity.ok(toCursorModel(page));
+    }
+
     @GetMapping("/export-sheet")
     @Operation(summary = "Exportar reservas para Excel", description = "Exporta os dados das reservas para um arquivo Excel (.xlsx)")
     @ApiResponses({
@@ -106,35 +134,30 @@ public class ReservationControllerImpl implements GenericController {
         @ApiResponse(responseCode = "403", description = "Acesso negado - Apenas administradores"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
-    public ResponseEntity<byte[]> exportReservationsToSheet() {
+    public ResponseEntity<StreamingResponseBody> exportReservationsToSheet() {
         // ✅ AUTORIZAÇÃO
         if (!authorizationService.canModifyResource("EXPORT", "reservation")) {
             throw new AccessDeniedException("Apenas administradores podem exportar dados de reservas");
         }
 
-        try {
-            byte[] excelData = reservationService.exportReservationsToExcel();
-
-            if (excelData.length == 0) {
-                return ResponseEntity.noContent().build();
-            }
-
-            String fileName = generateFileName();
+        if (!reservationService.hasReservationsToExport()) {
+            log.warn("No reservation data found for export");
+            return ResponseEntity.noContent().build();
+        }
 
-            log.info("Excel export requested - file size: {} bytes", excelData.length);
+        String fileName = generateFileName();
+        log.info("Excel export requested - streaming {}", fileName);
 
-            return ResponseEntity.ok()
-                    .header("Content-Disposition", "attachment; filename=" + fileName)
-                    .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                    .header("Cache-Control", "no-cache, no-store, must-revalidate")
-                    .header("Pragma", "no-cache")
-                    .header("Expires", "0")
-                    .body(excelData);
+        // ✅ Planilha escrita direto na resposta, sem buffer intermediário
+        StreamingResponseBody body = reservationService::exportReservationsToExcel;
 
-        } catch (Exception e) {
-            log.error("Failed to export reservations to Excel: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
-        }
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=" + fileName)
+                .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                .header("Cache-Control", "no-cache, no-store, must-revalidate")
+                .header("Pragma", "no-cache")
+                .header("Expires", "0")
+                .body(body);
     }
 
     @GetMapping("/search")
@@ -201,6 +224,24 @@ public class ReservationControllerImpl implements GenericController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/package-dates/{packageDateId}/cancel")
+    @Operation(summary = "Cancelar todas as reservas de uma saída",
+            description = "Cancela todas as reservas ativas de uma data de pacote, devolve as vagas e envia um aviso por email a cada cliente.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Reservas canceladas"),
+        @ApiResponse(responseCode = "400", description = "Reservas alteradas durante o cancelamento"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado - Apenas administradores e atendentes"),
+        @ApiResponse(responseCode = "404", description = "Data de pacote não encontrada")
+    })
+    public ResponseEntity<BulkCancellationResultDTO> cancelByPackageDate(@PathVariable UUID packageDateId) {
+        if (!authorizationService.canModifyResource("BULK_CANCEL", "reservation")) {
+            throw new AccessDeniedException("Apenas administradores e atendentes podem cancelar uma saída");
+        }
+
+        log.info("Cancelling all reservations for package date {}", packageDateId);
+        return ResponseEntity.ok(reservationService.cancelByPackageDate(packageDateId));
+    }
+
     @GetMapping("/available-dates")
     @Operation(summary = "Buscar datas de reserva disponíveis",
             description = "Retorna todas as datas em que o usuário possui reservas para popular filtros de data")
@@ -222,6 +263,65 @@ public class ReservationControllerImpl implements GenericController {
         return ResponseEntity.ok(availableDates);
     }
 
+    @PostMapping("/export-jobs")
+    @Operation(summary = "Solicitar exportação assíncrona", description = "Enfileira a geração do arquivo de reservas (XLSX ou PDF) e retorna o job. Solicitações idênticas com os dados inalterados reutilizam o arquivo já gerado.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "Exportação enfileirada ou reaproveitada"),
+        @ApiResponse(responseCode = "204", description = "Nenhum dado encontrado para exportação"),
+        @ApiResponse(responseCode = "400", description = "Fila de exportações cheia"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado - Apenas administradores")
+    })
+    public ResponseEntity<ExportJobDTO> createExportJob(@RequestParam(defaultValue = "XLSX") ExportFormat format) {
+        if (!authorizationService.canModifyResource("EXPORT", "reservation")) {
+            throw new AccessDeniedException("Apenas administradores podem exportar dados de reservas");
+        }
+
+        ExportJobDTO job = exportJobService.submit(format);
+        if (job == null) {
+            return ResponseEntity.noContent().build();
+        }
+
+        URI location = generateHeaderLocation(job.id());
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @GetMapping("/export-jobs/{id}")
+    @Operation(summary = "Consultar exportação", description = "Retorna o status de um job de exportação.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Status do job"),
+        @ApiResponse(responseCode = "404", description = "Job não encontrado")
+    })
+    public ResponseEntity<ExportJobDTO> getExportJob(@PathVariable UUID id) {
+        if (!authorizationService.canModifyResource("EXPORT", "reservation")) {
+            throw new AccessDeniedException("Apenas administradores podem exportar dados de reservas");
+        }
+        return ResponseEntity.ok(exportJobService.findById(id));
+    }
+
+    @GetMapping("/export-jobs/{id}/download")
+    @Operation(summary = "Baixar exportação", description = "Baixa o arquivo gerado por um job de exportação concluído.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Arquivo gerado"),
+        @ApiResponse(responseCode = "400", description = "Job ainda não concluído"),
+        @ApiResponse(responseCode = "404", description = "Job não encontrado")
+    })
+    public ResponseEntity<StreamingResponseBody> downloadExportJob(@PathVariable UUID id) {
+        if (!authorizationService.canModifyResource("EXPORT", "reservation")) {
+            throw new AccessDeniedException("Apenas administradores podem exportar dados de reservas");
+        }
+
+        ExportJobDTO job = exportJobService.findCompletedById(id);
+
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=" + job.fileName())
+                .header("Content-Type", job.format().getContentType())
+                .header("Cache-Control", "no-cache, no-store, must-revalidate")
+                .header("Pragma", "no-cache")
+                .header("Expires", "0")
+                .contentLength(job.sizeBytes())
+                .body(out -> exportJobService.writeResult(id, out));
+    }
+
     private String generateFileName() {
         return String.format("reservas_export_%s.xlsx",
                 LocalDateTime.now().format(
@@ -238,35 +338,30 @@ public class ReservationControllerImpl implements GenericController {
         @ApiResponse(responseCode = "403", description = "Acesso negado - Apenas administradores"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
-    public ResponseEntity<byte[]> exportReservationsToPdf() {
+    public ResponseEntity<StreamingResponseBody> exportReservationsToPdf() {
         // ✅ AUTORIZAÇÃO
         if (!authorizationService.canModifyResource("EXPORT", "reservation")) {
             throw new AccessDeniedException("Apenas administradores podem exportar dados de reservas");
         }
 
-        try {
-            byte[] pdfData = reservationService.exportReservationsToPdf();
-
-            if (pdfData.length == 0) {
-                return ResponseEntity.noContent().build();
-            }
-
-            String fileName = generatePdfFileName();
+        if (!reservationService.hasReservationsToExport()) {
+            log.warn("No reservation data found for PDF export");
+            return ResponseEntity.noContent().build();
+        }
 
-            log.info("PDF export requested - file size: {} bytes", pdfData.length);
+        String fileName = generatePdfFileName();
+        log.info("PDF export requested - streaming {}", fileName);
 
-            return ResponseEntity.ok()
-                    .header("Content-Disposition", "attachment; filename=" + fileName)
-                    .header("Content-Type", "application/pdf")
-                    .header("Cache-Control", "no-cache, no-store, must-revalidate")
-                    .header("Pragma", "no-cache")
-                    .header("Expires", "0")
-                    .body(pdfData);
+        // ✅ Páginas enviadas à medida que a tabela é descarregada
+        StreamingResponseBody body = reservationService::exportReservationsToPdf;
 
-        } catch (Exception e) {
-            log.error("Failed to export reservations to PDF: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
-        }
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=" + fileName)
+                .header("Content-Type", "application/pdf")
+                .header("Cache-Control", "no-cache, no-store, must-revalidate")
+                .header("Pragma", "no-cache")
+                .header("Expires", "0")
+                .body(body);
     }
 
     private String generatePdfFileName() {
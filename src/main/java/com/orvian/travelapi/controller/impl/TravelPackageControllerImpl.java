@@ -1,14 +1,20 @@
 package com.orvian.travelapi.controller.impl;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,11 +28,16 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.orvian.travelapi.controller.GenericController;
 import com.orvian.travelapi.controller.dto.error.ResponseErrorDTO;
+import com.orvian.travelapi.controller.dto.pagination.CursorPageDTO;
 import com.orvian.travelapi.controller.dto.travelpackage.CreateTravelPackageDTO;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageFacetedSearchDTO;
 import com.orvian.travelapi.controller.dto.travelpackage.PackageSearchResultDTO;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageSuggestionDTO;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageSummaryDTO;
 import com.orvian.travelapi.controller.dto.travelpackage.UpdateTravelPackageDTO;
 import com.orvian.travelapi.domain.model.TravelPackage;
 import com.orvian.travelapi.service.TravelPackageService;
+import com.orvian.travelapi.service.search.PackageFacetFilter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -49,6 +60,10 @@ public class TravelPackageControllerImpl implements GenericController {
 
     private final PagedResourcesAssembler<PackageSearchResultDTO> pagedResourcesAssembler;
 
+    private final PagedResourcesAssembler<PackageSummaryDTO> summaryResourcesAssembler;
+
+    private static final int AVAILABILITY_DEFAULT_WINDOW_YEARS = 2;
+
     @PostMapping
     @Operation(summary = "Criar um novo pacote de viagem", description = "Cria um novo pacote de viagem com os detalhes fornecidos.")
     @ApiResponses({
@@ -71,10 +86,18 @@ public class TravelPackageControllerImpl implements GenericController {
         @ApiResponse(responseCode = "200", description = "Pacotes recuperados com sucesso"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content(schema = @Schema(implementation = ResponseErrorDTO.class)))
     })
-    public ResponseEntity<PagedModel<EntityModel<PackageSearchResultDTO>>> getPackagesByPage(
+    public ResponseEntity<PagedModel<?>> getPackagesByPage(
             @RequestParam(defaultValue = "0") Integer pageNumber,
             @RequestParam(defaultValue = "10") Integer pageSize,
-            @RequestParam(required = false) String title) {
+            @RequestParam(required = false) String title,
+            @RequestParam(defaultValue = "full")
+            @Schema(description = "full: pacote completo com datas e mídias; summary: apenas os campos dos cards",
+                    allowableValues = {"full", "summary"}) String view) {
+
+        if ("summary".equalsIgnoreCase(view)) {
+            Page<PackageSummaryDTO> summaries = packageService.findAllSummaries(pageNumber, pageSize, title);
+            return ResponseEntity.ok(summaryResourcesAssembler.toModel(summaries));
+        }
 
         Page<PackageSearchResultDTO> page = packageService.findAll(pageNumber, pageSize, title);
         PagedModel<EntityModel<PackageSearchResultDTO>> pagedModel = pagedResourcesAssembler.toModel(page);
@@ -82,6 +105,82 @@ public class TravelPackageControllerImpl implements GenericController {
         return ResponseEntity.ok(pagedModel);
     }
 
+    @GetMapping("/available")
+    @Operation(summary = "Busca de pacotes com vagas", description = "Recupera pacotes com ao menos uma saída na janela de datas informada que ainda tenha o número de vagas solicitado.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Pacotes recuperados com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Janela de datas ou quantidade de vagas inválida", content = @Content(schema = @Schema(implementation = ResponseErrorDTO.class))),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content(schema = @Schema(implementation = ResponseErrorDTO.class)))
+    })
+    public ResponseEntity<PagedModel<EntityModel<PackageSearchResultDTO>>> getAvailablePackages(
+            @RequestParam(defaultValue = "0") Integer pageNumber,
+            @RequestParam(defaultValue = "10") Integer pageSize,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(defaultValue = "1") Integer seats) {
+
+        LocalDate from = startDate != null ? startDate : LocalDate.now(ZoneOffset.UTC);
+        LocalDate to = endDate != null ? endDate : from.plusYears(AVAILABILITY_DEFAULT_WINDOW_YEARS);
+
+        Page<PackageSearchResultDTO> page = packageService.findAvailable(pageNumber, pageSize, title, from, to, seats);
+        return ResponseEntity.ok(pagedResourcesAssembler.toModel(page));
+    }
+
+    @GetMapping("/faceted-search")
+    @Operation(summary = "Busca facetada de pacotes", description = "Retorna a página de pacotes filtrada e, na mesma resposta, as contagens por destino, faixa de preço, duração e mês de saída.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Pacotes e facetas recuperados com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Faixa de preço ou duração inválida", content = @Content(schema = @Schema(implementation = ResponseErrorDTO.class))),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content(schema = @Schema(implementation = ResponseErrorDTO.class)))
+    })
+    public ResponseEntity<PackageFacetedSearchDTO<PagedModel<EntityModel<PackageSearchResultDTO>>>> getPackagesFaceted(
+            @RequestParam(defaultValue = "0") Integer pageNumber,
+            @RequestParam(defaultValue = "10") Integer pageSize,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) Set<String> destination,
+            @RequestParam(required = false) @Schema(example = "1000-2500") String priceBand,
+            @RequestParam(required = false) @Schema(example = "4-7") String duration,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") @Schema(example = "2025-07") YearMonth startMonth,
+            @RequestParam(required = false) Integer maxPeople) {
+
+        PackageFacetFilter filter = new PackageFacetFilter(title, destination, priceBand, duration, startMonth, maxPeople);
+        PackageFacetedSearchDTO<Page<PackageSearchResultDTO>> result = packageService.findAllFaceted(pageNumber, pageSize, filter);
+
+        return ResponseEntity.ok(new PackageFacetedSearchDTO<>(pagedResourcesAssembler.toModel(result.results()), result.facets()));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Sugestões de busca", description = "Retorna destinos e títulos de pacotes que começam pelo texto digitado, para autocomplete.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Sugestões recuperadas com sucesso")
+    })
+    public ResponseEntity<List<PackageSuggestionDTO>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") Integer limit) {
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic())
+                .body(packageService.suggest(q, limit));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Listagem de pacotes por cursor", description = "Recupera pacotes em ordem de criação usando paginação por cursor (keyset), sem contagem total por padrão.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Pacotes recuperados com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido", content = @Content(schema = @Schema(implementation = ResponseErrorDTO.class))),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content(schema = @Schema(implementation = ResponseErrorDTO.class)))
+    })
+    public ResponseEntity<EntityModel<CursorPageDTO<PackageSearchResultDTO>>> getPackagesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer pageSize,
+            @RequestParam(required = false) String title,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        CursorPageDTO<PackageSearchResultDTO> page = packageService.findAllByCursor(cursor, pageSize, title, withTotal);
+        return ResponseEntity.ok(toCursorModel(page));
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Paginação da lista de todos os Pacotes", description = "Recupera uma página contendo uma lista de usuários.")
     @ApiResponses({
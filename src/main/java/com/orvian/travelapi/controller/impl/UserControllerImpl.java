@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.orvian.travelapi.controller.GenericController;
 import com.orvian.travelapi.controller.dto.error.ResponseErrorDTO;
+import com.orvian.travelapi.controller.dto.pagination.CursorPageDTO;
 import com.orvian.travelapi.controller.dto.user.CreateUserDTO;
 import com.orvian.travelapi.controller.dto.user.UpdateUserDTO;
 import com.orvian.travelapi.controller.dto.user.UserSearchResultDTO;
@@ -91,6 +92,27 @@ public class UserControllerImpl implements GenericController {
         return ResponseEntity.ok(pagedModel);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "Listagem de usuários por cursor", description = "Recupera usuários em ordem de criação usando paginação por cursor (keyset), sem contagem total por padrão.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Usuários recuperados com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido", content = @Content(schema = @Schema(implementation = ResponseErrorDTO.class))),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content(schema = @Schema(implementation = ResponseErrorDTO.class)))
+    })
+    public ResponseEntity<EntityModel<CursorPageDTO<UserSearchResultDTO>>> getUsersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer pageSize,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        if (!authorizationService.isCurrentUserAttendenteOrAdmin()) {
+            throw new AccessDeniedException("Apenas administradores e atendentes podem listar usuários");
+        }
+
+        CursorPageDTO<UserSearchResultDTO> page = userService.findAllByCursor(cursor, pageSize, name, withTotal);
+        return ResponseEntity.ok(toCursorModel(page));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar um usuário pelo ID", description = "Recupera um usuário identificando pelo ID.")
     @ApiResponses({
@@ -0,0 +1,8 @@
+package com.orvian.travelapi.domain.enums;
+
+public enum EmailOutboxStatus {
+    PENDENTE,
+    ENVIANDO,
+    ENVIADO,
+    FALHOU
+}
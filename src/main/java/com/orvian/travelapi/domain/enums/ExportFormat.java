@@ -0,0 +1,26 @@
+package com.orvian.travelapi.domain.enums;
+
+public enum ExportFormat {
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "reservas_export_%s.xlsx"),
+    PDF("application/pdf", "reservas_relatorio_%s.pdf");
+
+    private final String contentType;
+    private final String fileNamePattern;
+
+    ExportFormat(String contentType, String fileNamePattern) {
+        this.contentType = contentType;
+        this.fileNamePattern = fileNamePattern;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String fileName(String timestamp) {
+        return String.format(fileNamePattern, timestamp);
+    }
+
+    public static ExportFormat fromString(String value) {
+        return ExportFormat.valueOf(value.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,8 @@
+package com.orvian.travelapi.domain.enums;
+
+public enum ExportJobStatus {
+    PENDENTE,
+    PROCESSANDO,
+    CONCLUIDO,
+    FALHOU
+}
@@ -0,0 +1,13 @@
+package com.orvian.travelapi.domain.enums.converter;
+
+import com.orvian.travelapi.domain.enums.EmailOutboxStatus;
+
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class EmailOutboxStatusConverter extends GenericEnumConverter<EmailOutboxStatus> {
+
+    public EmailOutboxStatusConverter() {
+        super(EmailOutboxStatus.class);
+    }
+}
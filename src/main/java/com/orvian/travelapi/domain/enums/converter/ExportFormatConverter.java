@@ -0,0 +1,13 @@
+package com.orvian.travelapi.domain.enums.converter;
+
+import com.orvian.travelapi.domain.enums.ExportFormat;
+
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class ExportFormatConverter extends GenericEnumConverter<ExportFormat> {
+
+    public ExportFormatConverter() {
+        super(ExportFormat.class);
+    }
+}
@@ -0,0 +1,13 @@
+package com.orvian.travelapi.domain.enums.converter;
+
+import com.orvian.travelapi.domain.enums.ExportJobStatus;
+
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class ExportJobStatusConverter extends GenericEnumConverter<ExportJobStatus> {
+
+    public ExportJobStatusConverter() {
+        super(ExportJobStatus.class);
+    }
+}
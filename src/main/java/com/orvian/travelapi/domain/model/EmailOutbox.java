@@ -0,0 +1,94 @@
+package com.orvian.travelapi.domain.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import com.orvian.travelapi.domain.enums.EmailOutboxStatus;
+import com.orvian.travelapi.domain.enums.converter.EmailOutboxStatusConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Email já renderizado aguardando envio. É gravado na mesma transação da
+ * operação de negócio e enviado depois do commit pelo EmailOutboxDispatcher.
+ */
+@Entity
+@Table(name = "TB_EMAIL_OUTBOX")
+@Getter
+@Setter
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "ID", columnDefinition = "uniqueidentifier", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "TEMPLATE_TYPE", nullable = false, length = 50)
+    private String templateType;
+
+    @Column(name = "RECIPIENT", nullable = false, length = 150)
+    private String recipient;
+
+    @Column(name = "SUBJECT", nullable = false, length = 255)
+    private String subject;
+
+    @Column(name = "HTML_BODY", nullable = false, columnDefinition = "nvarchar(max)")
+    private String htmlBody;
+
+    @Column(name = "ATTACHMENT_TYPE", length = 50)
+    private String attachmentType;
+
+    @Column(name = "ATTACHMENT_DATA", columnDefinition = "nvarchar(max)")
+    private String attachmentData;
+
+    @Column(name = "STATUS", nullable = false, length = 15)
+    @Convert(converter = EmailOutboxStatusConverter.class)
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDENTE;
+
+    @Column(name = "ATTEMPTS", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "NEXT_ATTEMPT_AT", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "CLAIM_TOKEN", columnDefinition = "uniqueidentifier")
+    private UUID claimToken;
+
+    @Column(name = "LAST_ERROR", length = 1000)
+    private String lastError;
+
+    @Column(name = "SENT_AT")
+    private LocalDateTime sentAt;
+
+    @Column(name = "CREATED_AT", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime utcNow = LocalDateTime.now(ZoneOffset.UTC);
+        this.createdAt = utcNow;
+        this.updatedAt = utcNow;
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = utcNow;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
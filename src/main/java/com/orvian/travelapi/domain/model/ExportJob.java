@@ -0,0 +1,80 @@
+package com.orvian.travelapi.domain.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import com.orvian.travelapi.domain.enums.ExportFormat;
+import com.orvian.travelapi.domain.enums.ExportJobStatus;
+import com.orvian.travelapi.domain.enums.converter.ExportFormatConverter;
+import com.orvian.travelapi.domain.enums.converter.ExportJobStatusConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Job de exportação de reservas. Fica no banco para que qualquer instância da
+ * API consulte o status e sirva o download; o arquivo gerado fica em
+ * {@link ExportJobFile}.
+ */
+@Entity
+@Table(name = "TB_EXPORT_JOBS")
+@Getter
+@Setter
+public class ExportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "ID", columnDefinition = "uniqueidentifier", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "FORMAT", nullable = false, length = 10)
+    @Convert(converter = ExportFormatConverter.class)
+    private ExportFormat format;
+
+    @Column(name = "JOB_KEY", nullable = false, length = 100)
+    private String jobKey;
+
+    @Column(name = "FILE_NAME", nullable = false, length = 100)
+    private String fileName;
+
+    @Column(name = "STATUS", nullable = false, length = 15)
+    @Convert(converter = ExportJobStatusConverter.class)
+    private ExportJobStatus status = ExportJobStatus.PENDENTE;
+
+    @Column(name = "SIZE_BYTES")
+    private Long sizeBytes;
+
+    @Column(name = "ERROR", length = 1000)
+    private String error;
+
+    @Column(name = "FINISHED_AT")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "CREATED_AT", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime utcNow = LocalDateTime.now(ZoneOffset.UTC);
+        this.createdAt = utcNow;
+        this.updatedAt = utcNow;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
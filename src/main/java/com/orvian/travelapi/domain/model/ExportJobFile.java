@@ -0,0 +1,30 @@
+package com.orvian.travelapi.domain.model;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Arquivo gerado por um {@link ExportJob}, em tabela separada para que
+ * consultas de status nunca toquem no binário. O conteúdo é gravado e lido
+ * somente via JDBC em streaming (ExportJobServiceImpl), nunca carregado pela
+ * entidade.
+ */
+@Entity
+@Table(name = "TB_EXPORT_JOB_FILES")
+@Getter
+@Setter
+public class ExportJobFile {
+
+    @Id
+    @Column(name = "JOB_ID", columnDefinition = "uniqueidentifier", updatable = false, nullable = false)
+    private UUID jobId;
+
+    @Column(name = "CONTENT", nullable = false, columnDefinition = "VARBINARY(MAX)")
+    private byte[] content;
+}
@@ -11,7 +11,6 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -19,6 +18,9 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 
+/**
+ * Metadados da mídia. O conteúdo binário fica em {@link MediaContent}.
+ */
 @Entity
 @Table(name = "TB_MEDIAS")
 @Getter
@@ -34,10 +36,6 @@ public class Media {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @Lob
-    @Column(name = "CONTENT64", nullable = false, columnDefinition = "VARBINARY(MAX)")
-    private byte[] content64;
-
     @Column(name = "TYPE", nullable = false, length = 10)
     private String type;
 
@@ -0,0 +1,37 @@
+package com.orvian.travelapi.domain.model;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Conteúdo binário de uma {@link Media}, em tabela separada para que
+ * carregar a mídia (findById, listagens, existência) nunca traga os bytes da
+ * imagem. Só é gravado na criação da mídia; a leitura é feita via JDBC em
+ * streaming (MediaServiceImpl).
+ */
+@Entity
+@Table(name = "TB_MEDIA_CONTENTS")
+@Getter
+@Setter
+@NoArgsConstructor
+public class MediaContent {
+
+    @Id
+    @Column(name = "MEDIA_ID", columnDefinition = "uniqueidentifier", updatable = false, nullable = false)
+    private UUID mediaId;
+
+    @Column(name = "CONTENT", nullable = false, columnDefinition = "VARBINARY(MAX)")
+    private byte[] content;
+
+    public MediaContent(UUID mediaId, byte[] content) {
+        this.mediaId = mediaId;
+        this.content = content;
+    }
+}
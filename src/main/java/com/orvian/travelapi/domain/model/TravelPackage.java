@@ -3,8 +3,6 @@ package com.orvian.travelapi.domain.model;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -50,9 +48,6 @@ public class TravelPackage {
     @Schema(name = "maxPeople", description = "Maximum number of people allowed for this travel package", example = "10")
     private int maxPeople;
 
-    @OneToMany(mappedBy = "travelPackage", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Media> media = new ArrayList<>();
-
     @Column(name = "CREATED_AT", nullable = false)
     @Schema(name = "createdAt", description = "Timestamp when the travel package was created", example = "2023-10-01T12:00:00")
     private LocalDateTime createdAt;
@@ -0,0 +1,105 @@
+package com.orvian.travelapi.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.orvian.travelapi.domain.enums.EmailOutboxStatus;
+import com.orvian.travelapi.domain.model.EmailOutbox;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    @Query("""
+        SELECT e.id FROM EmailOutbox e
+        WHERE e.status = :status AND e.nextAttemptAt <= :now
+        ORDER BY e.nextAttemptAt
+        """)
+    List<UUID> findDueIds(@Param("status") EmailOutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /**
+     * Reserva os emails para um worker. A condição no status garante que dois
+     * workers (ou duas instâncias) nunca reservem a mesma linha.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE EmailOutbox e
+        SET e.status = :claimed, e.claimToken = :token, e.updatedAt = :now
+        WHERE e.id IN :ids AND e.status = :pending
+        """)
+    int claim(@Param("ids") Collection<UUID> ids,
+            @Param("token") UUID token,
+            @Param("now") LocalDateTime now,
+            @Param("pending") EmailOutboxStatus pending,
+            @Param("claimed") EmailOutboxStatus claimed);
+
+    List<EmailOutbox> findByClaimToken(UUID claimToken);
+
+    /**
+     * Grava o resultado do envio somente se a reserva ainda for deste worker.
+     * Se o lote demorou mais que o sending-timeout, o releaseStale pode ter
+     * devolvido o email para a fila e outro worker pode tê-lo reservado; nesse
+     * caso nada é alterado e o retorno é 0.
+     */
+    @Modifying
+    @Query("""
+        UPDATE EmailOutbox e
+        SET e.status = :status, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt,
+            e.sentAt = :sentAt, e.lastError = :lastError, e.claimToken = NULL, e.updatedAt = :now
+        WHERE e.id = :id AND e.claimToken = :token
+        """)
+    int completeClaim(@Param("id") UUID id,
+            @Param("token") UUID token,
+            @Param("status") EmailOutboxStatus status,
+            @Param("attempts") int attempts,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("sentAt") LocalDateTime sentAt,
+            @Param("lastError") String lastError,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Devolve para a fila, sem contar tentativa, emails reservados que não
+     * chegaram a ser enviados (SMTP indisponível).
+     */
+    @Modifying
+    @Query("""
+        UPDATE EmailOutbox e
+        SET e.status = :pending, e.claimToken = NULL, e.nextAttemptAt = :nextAttemptAt,
+            e.lastError = :lastError, e.updatedAt = :now
+        WHERE e.id IN :ids AND e.claimToken = :token
+        """)
+    int releaseClaim(@Param("ids") Collection<UUID> ids,
+            @Param("token") UUID token,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError,
+            @Param("now") LocalDateTime now,
+            @Param("pending") EmailOutboxStatus pending);
+
+    /**
+     * Devolve para a fila emails presos em envio por um worker que caiu.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE EmailOutbox e
+        SET e.status = :pending, e.claimToken = NULL, e.updatedAt = :now
+        WHERE e.status = :claimed AND e.updatedAt < :staleBefore
+        """)
+    int releaseStale(@Param("staleBefore") LocalDateTime staleBefore,
+            @Param("now") LocalDateTime now,
+            @Param("pending") EmailOutboxStatus pending,
+            @Param("claimed") EmailOutboxStatus claimed);
+
+    @Query("SELECT e.status, COUNT(e) FROM EmailOutbox e GROUP BY e.status")
+    List<Object[]> countByStatus();
+
+    @Query("SELECT MIN(e.createdAt) FROM EmailOutbox e WHERE e.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") EmailOutboxStatus status);
+}
@@ -0,0 +1,89 @@
+package com.orvian.travelapi.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.orvian.travelapi.domain.enums.ExportJobStatus;
+import com.orvian.travelapi.domain.model.ExportJob;
+
+public interface ExportJobRepository extends JpaRepository<ExportJob, UUID> {
+
+    /**
+     * Job mais recente com a mesma chave (formato + fingerprint) que ainda
+     * pode ser reaproveitado: concluído dentro do TTL ou em andamento e com
+     * atualização recente.
+     */
+    @Query("""
+        SELECT j FROM ExportJob j
+        WHERE j.jobKey = :jobKey
+          AND ((j.status = :completed AND j.finishedAt >= :finishedAfter)
+            OR (j.status IN :active AND j.updatedAt >= :activeAfter))
+        ORDER BY j.createdAt DESC
+        """)
+    List<ExportJob> findReusable(@Param("jobKey") String jobKey,
+            @Param("completed") ExportJobStatus completed,
+            @Param("finishedAfter") LocalDateTime finishedAfter,
+            @Param("active") Collection<ExportJobStatus> active,
+            @Param("activeAfter") LocalDateTime activeAfter,
+            Pageable pageable);
+
+    /**
+     * Transição condicional de status: retorna 0 se outro processo já moveu o
+     * job.
+     */
+    @Modifying
+    @Query("""
+        UPDATE ExportJob j SET j.status = :to, j.updatedAt = :now
+        WHERE j.id = :id AND j.status = :from
+        """)
+    int transition(@Param("id") UUID id, @Param("from") ExportJobStatus from,
+            @Param("to") ExportJobStatus to, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        UPDATE ExportJob j SET j.status = :completed, j.sizeBytes = :sizeBytes, j.finishedAt = :now, j.updatedAt = :now
+        WHERE j.id = :id AND j.status = :processing
+        """)
+    int complete(@Param("id") UUID id, @Param("sizeBytes") long sizeBytes, @Param("now") LocalDateTime now,
+            @Param("processing") ExportJobStatus processing, @Param("completed") ExportJobStatus completed);
+
+    @Modifying
+    @Query("""
+        UPDATE ExportJob j SET j.status = :failed, j.error = :error, j.finishedAt = :now, j.updatedAt = :now
+        WHERE j.id = :id AND j.status IN :active
+        """)
+    int fail(@Param("id") UUID id, @Param("error") String error, @Param("now") LocalDateTime now,
+            @Param("active") Collection<ExportJobStatus> active, @Param("failed") ExportJobStatus failed);
+
+    /**
+     * Jobs pendentes ou em processamento sem atualização desde staleBefore
+     * (instância reiniciada ou derrubada no meio da geração).
+     */
+    @Modifying
+    @Query("""
+        UPDATE ExportJob j SET j.status = :failed, j.error = :error, j.finishedAt = :now, j.updatedAt = :now
+        WHERE j.status IN :active AND j.updatedAt < :staleBefore
+        """)
+    int failStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("error") String error,
+            @Param("now") LocalDateTime now, @Param("active") Collection<ExportJobStatus> active,
+            @Param("failed") ExportJobStatus failed);
+
+    @Modifying
+    @Query("""
+        DELETE FROM ExportJobFile f
+        WHERE f.jobId IN (SELECT j.id FROM ExportJob j WHERE j.finishedAt < :finishedBefore)
+        """)
+    int deleteFilesFinishedBefore(@Param("finishedBefore") LocalDateTime finishedBefore);
+
+    @Modifying
+    @Query("DELETE FROM ExportJob j WHERE j.finishedAt < :finishedBefore")
+    int deleteFinishedBefore(@Param("finishedBefore") LocalDateTime finishedBefore);
+}
@@ -0,0 +1,43 @@
+package com.orvian.travelapi.domain.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.orvian.travelapi.domain.model.MediaContent;
+
+/**
+ * Usado apenas para gravar e remover conteúdos; a leitura do binário é feita
+ * em streaming pelo MediaServiceImpl.
+ */
+public interface MediaContentRepository extends JpaRepository<MediaContent, UUID> {
+
+    /**
+     * Tamanho do conteúdo em bytes, calculado pelo banco sem ler o binário.
+     */
+    @Query(value = "SELECT DATALENGTH(CONTENT) FROM TB_MEDIA_CONTENTS WHERE MEDIA_ID = :id", nativeQuery = true)
+    Optional<Long> findContentLengthById(@Param("id") UUID id);
+
+    /**
+     * Remove o conteúdo sem carregá-lo (o deleteById herdado faria um
+     * findById, lendo o binário só para apagá-lo).
+     */
+    @Modifying
+    @Query("DELETE FROM MediaContent c WHERE c.mediaId = :mediaId")
+    int deleteByMediaId(@Param("mediaId") UUID mediaId);
+
+    /**
+     * Remove os conteúdos das mídias do pacote sem carregá-los; deve rodar
+     * antes da remoção das mídias.
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM MediaContent c
+        WHERE c.mediaId IN (SELECT m.id FROM Media m WHERE m.travelPackage.id = :packageId)
+        """)
+    int deleteByTravelPackageId(@Param("packageId") UUID packageId);
+}
@@ -1,20 +1,58 @@
 package com.orvian.travelapi.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.orvian.travelapi.controller.dto.media.MediaMetadataDTO;
 import com.orvian.travelapi.domain.model.Media;
 
+/**
+ * As consultas de leitura retornam apenas metadados. O conteúdo binário fica
+ * em TB_MEDIA_CONTENTS (MediaContentRepository) e só é lido no download da
+ * mídia, em streaming (MediaService#writeContent).
+ */
 public interface MediaRepository extends JpaRepository<Media, UUID> {
 
-    @Query("SELECT m FROM Media m WHERE m.travelPackage.id = :packageId ORDER BY m.createdAt ASC LIMIT 1")
-    Optional<Media> findFirstByTravelPackage_IdOrderByCreatedAtAsc(@Param("packageId") UUID packageId);
+    @Query("""
+        SELECT new com.orvian.travelapi.controller.dto.media.MediaMetadataDTO(m.id, m.type, m.travelPackage.id, m.createdAt, m.updatedAt)
+        FROM Media m
+        WHERE m.id = :id
+        """)
+    Optional<MediaMetadataDTO> findMetadataById(@Param("id") UUID id);
 
-    @Query("SELECT m FROM Media m WHERE m.travelPackage.id = :packageId ORDER BY m.createdAt ASC")
-    List<Media> findByTravelPackage_IdOrderByCreatedAtAsc(@Param("packageId") UUID packageId);
+    @Query("""
+        SELECT new com.orvian.travelapi.controller.dto.media.MediaMetadataDTO(m.id, m.type, m.travelPackage.id, m.createdAt, m.updatedAt)
+        FROM Media m
+        WHERE m.travelPackage.id = :packageId
+        ORDER BY m.createdAt ASC
+        """)
+    List<MediaMetadataDTO> findMetadataByTravelPackageId(@Param("packageId") UUID packageId);
+
+    /**
+     * Busca a primeira mídia (mais antiga) de cada pacote informado em uma
+     * única consulta. Em caso de empate no CREATED_AT mais de uma mídia pode
+     * ser retornada para o mesmo pacote.
+     */
+    @Query("""
+        SELECT new com.orvian.travelapi.controller.dto.media.MediaMetadataDTO(m.id, m.type, m.travelPackage.id, m.createdAt, m.updatedAt)
+        FROM Media m
+        WHERE m.travelPackage.id IN :packageIds
+          AND m.createdAt = (SELECT MIN(m2.createdAt) FROM Media m2 WHERE m2.travelPackage = m.travelPackage)
+        ORDER BY m.createdAt ASC
+        """)
+    List<MediaMetadataDTO> findFirstMetadataByTravelPackageIdIn(@Param("packageIds") Collection<UUID> packageIds);
+
+    /**
+     * Remove as mídias do pacote sem carregá-las no contexto de persistência.
+     */
+    @Modifying
+    @Query("DELETE FROM Media m WHERE m.travelPackage.id = :packageId")
+    int deleteByTravelPackageId(@Param("packageId") UUID packageId);
 }
@@ -1,14 +1,74 @@
 package com.orvian.travelapi.domain.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.orvian.travelapi.domain.model.PackageDate;
+import com.orvian.travelapi.service.search.PackageDepartureRow;
+
+import jakarta.persistence.LockModeType;
 
 public interface PackageDateRepository extends JpaRepository<PackageDate, UUID> {
 
     List<PackageDate> findByTravelPackage_Id(UUID travelPackageId);
 
+    List<PackageDate> findByTravelPackage_IdIn(Collection<UUID> travelPackageIds);
+
+    /**
+     * Saídas a partir da data informada que ainda têm vagas, para a faceta de
+     * mês de início.
+     */
+    @Query("""
+        SELECT new com.orvian.travelapi.service.search.PackageDepartureRow(pd.travelPackage.id, pd.startDate)
+        FROM PackageDate pd
+        WHERE pd.startDate >= :from AND pd.qtd_available > 0
+        """)
+    List<PackageDepartureRow> findAvailableDeparturesFrom(@Param("from") LocalDate from);
+
+    /**
+     * Carrega a data de pacote com lock de escrita até o fim da transação,
+     * bloqueando novas reservas (que decrementam as vagas) enquanto ela é
+     * cancelada.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pd FROM PackageDate pd WHERE pd.id = :id")
+    Optional<PackageDate> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query("SELECT pd.travelPackage.id FROM PackageDate pd WHERE pd.id = :id")
+    Optional<UUID> findTravelPackageIdById(@Param("id") UUID id);
+
+    /**
+     * Decrementa as vagas somente se houver quantidade suficiente. Não limpa
+     * o contexto de persistência: uma PackageDate já carregada na transação
+     * fica com a contagem antiga até ser recarregada (ver
+     * SeatInventoryServiceImpl).
+     *
+     * @return 1 se as vagas foram reservadas, 0 caso contrário
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE PackageDate pd
+        SET pd.qtd_available = pd.qtd_available - :seats, pd.updatedAt = :now
+        WHERE pd.id = :id AND pd.qtd_available >= :seats
+        """)
+    int decrementAvailable(@Param("id") UUID id, @Param("seats") int seats, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE PackageDate pd
+        SET pd.qtd_available = pd.qtd_available + :seats, pd.updatedAt = :now
+        WHERE pd.id = :id
+        """)
+    int incrementAvailable(@Param("id") UUID id, @Param("seats") int seats, @Param("now") LocalDateTime now);
+
 }
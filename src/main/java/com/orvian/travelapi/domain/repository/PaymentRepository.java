@@ -1,5 +1,6 @@
 package com.orvian.travelapi.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,4 +18,6 @@ public interface PaymentRepository extends JpaRepository<Payment, UUID> {
     List<Payment> findByPaymentMethod(PaymentMethod paymentMethod);
 
     Optional<Payment> findByReservation_Id(UUID reservationId);
+
+    List<Payment> findByReservation_IdIn(Collection<UUID> reservationIds);
 }
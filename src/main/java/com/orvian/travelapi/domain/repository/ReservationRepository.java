@@ -1,33 +1,177 @@
 package com.orvian.travelapi.domain.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 
 import com.orvian.travelapi.controller.dto.admin.ReservationToSheetDTO;
+import com.orvian.travelapi.controller.dto.email.ReservationCancellationEmailDTO;
+import com.orvian.travelapi.domain.enums.PaymentStatus;
 import com.orvian.travelapi.domain.enums.ReservationSituation;
 import com.orvian.travelapi.domain.model.Reservation;
+import com.orvian.travelapi.service.reservation.ExpiredHoldRow;
 
-public interface ReservationRepository extends JpaRepository<Reservation, UUID> {
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
-    @EntityGraph(attributePaths = {"travelers"})
+public interface ReservationRepository extends JpaRepository<Reservation, UUID>, JpaSpecificationExecutor<Reservation> {
+
+    /**
+     * Busca paginada trazendo apenas as associações to-one na mesma consulta.
+     * Os viajantes (coleção) são carregados em lote via
+     * hibernate.default_batch_fetch_size, evitando a paginação em memória que
+     * o fetch de coleção forçaria.
+     */
+    @EntityGraph(attributePaths = {"user", "packageDate", "packageDate.travelPackage"})
     Page<Reservation> findAll(Specification<Reservation> spec, Pageable pageable);
 
     @EntityGraph(attributePaths = {"travelers"})
     @NonNull
     Optional<Reservation> findById(@NonNull UUID id);
 
-    boolean existsByUserIdAndPackageDateId(UUID userId, UUID packageDateId);
+    /**
+     * Apenas o ID do dono da reserva, sem carregar a entidade nem suas
+     * associações.
+     */
+    @Query("SELECT r.user.id FROM Reservation r WHERE r.id = :id")
+    Optional<UUID> findOwnerIdById(@Param("id") UUID id);
+
+    boolean existsByUserIdAndPackageDateIdAndSituationNot(UUID userId, UUID packageDateId, ReservationSituation situation);
+
+    /**
+     * Reservas na situação informada criadas antes do corte e sem pagamento
+     * aprovado, das mais antigas para as mais novas. Usa o índice
+     * (SITUATION, CREATED_AT).
+     */
+    @Query("""
+        SELECT r.id FROM Reservation r
+        WHERE r.situation = :pending AND r.createdAt < :cutoff
+        AND NOT EXISTS (
+            SELECT 1 FROM Payment p WHERE p.reservation = r AND p.status = :approved)
+        ORDER BY r.createdAt
+        """)
+    List<UUID> findExpiredHoldIds(@Param("pending") ReservationSituation pending,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("approved") PaymentStatus approved,
+            Pageable pageable);
+
+    /**
+     * Trava (UPDLOCK) as reservas do lote que continuam pendentes e sem
+     * pagamento aprovado. Uma rodada concorrente do reaper espera o commit
+     * desta e depois não as encontra mais como PENDENTE.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT r.id FROM Reservation r
+        WHERE r.id IN :ids AND r.situation = :pending
+        AND NOT EXISTS (
+            SELECT 1 FROM Payment p WHERE p.reservation = r AND p.status = :approved)
+        """)
+    List<UUID> lockExpiredHolds(@Param("ids") Collection<UUID> ids,
+            @Param("pending") ReservationSituation pending,
+            @Param("approved") PaymentStatus approved);
+
+    /**
+     * Cancela as reservas do lote que continuam pendentes e sem pagamento
+     * aprovado.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Reservation r
+        SET r.situation = :cancelled, r.cancelledDate = :today, r.updatedAt = :now
+        WHERE r.id IN :ids AND r.situation = :pending
+        AND NOT EXISTS (
+            SELECT 1 FROM Payment p WHERE p.reservation = r AND p.status = :approved)
+        """)
+    int cancelExpiredHolds(@Param("ids") Collection<UUID> ids,
+            @Param("pending") ReservationSituation pending,
+            @Param("cancelled") ReservationSituation cancelled,
+            @Param("approved") PaymentStatus approved,
+            @Param("today") LocalDate today,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Data de pacote e quantidade de viajantes de cada reserva, para devolver
+     * as vagas.
+     */
+    @Query("""
+        SELECT new com.orvian.travelapi.service.reservation.ExpiredHoldRow(r.id, r.packageDate.id, COUNT(t))
+        FROM Reservation r
+        LEFT JOIN r.travelers t
+        WHERE r.id IN :ids
+        GROUP BY r.id, r.packageDate.id
+        """)
+    List<ExpiredHoldRow> findHoldSeats(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Altera a situação da reserva somente se ela ainda não estiver na
+     * situação informada, garantindo que um cancelamento concorrente libere as
+     * vagas uma única vez.
+     *
+     * @return 1 se a situação foi alterada, 0 caso contrário
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Reservation r
+        SET r.situation = :situation, r.updatedAt = :now
+        WHERE r.id = :id AND r.situation <> :situation
+        """)
+    int updateSituationIfDifferent(@Param("id") UUID id, @Param("situation") ReservationSituation situation,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Reservas ainda ativas de uma data de pacote com os dados do aviso de
+     * cancelamento e a quantidade de viajantes, em uma única consulta.
+     */
+    @Query("""
+        SELECT new com.orvian.travelapi.controller.dto.email.ReservationCancellationEmailDTO(
+            r.id, u.name, u.email, tp.title, tp.destination, pd.startDate, pd.endDate, COUNT(t))
+        FROM Reservation r
+        JOIN r.user u
+        JOIN r.packageDate pd
+        JOIN pd.travelPackage tp
+        LEFT JOIN r.travelers t
+        WHERE pd.id = :packageDateId AND r.situation <> :cancelled
+        GROUP BY r.id, u.name, u.email, tp.title, tp.destination, pd.startDate, pd.endDate
+        """)
+    List<ReservationCancellationEmailDTO> findActiveForCancellation(@Param("packageDateId") UUID packageDateId,
+            @Param("cancelled") ReservationSituation cancelled);
+
+    /**
+     * Cancela todas as reservas ativas de uma data de pacote em um único
+     * UPDATE.
+     *
+     * @return quantidade de reservas canceladas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Reservation r
+        SET r.situation = :cancelled, r.cancelledDate = :today, r.updatedAt = :now
+        WHERE r.packageDate.id = :packageDateId AND r.situation <> :cancelled
+        """)
+    int cancelByPackageDate(@Param("packageDateId") UUID packageDateId,
+            @Param("cancelled") ReservationSituation cancelled,
+            @Param("today") LocalDate today,
+            @Param("now") LocalDateTime now);
 
     @Query("""
         SELECT DISTINCT r.reservationDate 
@@ -44,8 +188,36 @@ public interface ReservationRepository extends JpaRepository<Reservation, UUID>
         """)
     List<LocalDate> findAllDistinctReservationDates();
 
+    /**
+     * Linhas da view de exportação em cursor: são lidas do banco sob demanda,
+     * em lotes do fetch size. Deve ser consumida dentro de uma transação e
+     * fechada ao final.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
     @Query(value = "SELECT * FROM VW_RESERVATIONS_WITH_PACKAGE", nativeQuery = true)
-    List<ReservationToSheetDTO> exportToSheet();
+    Stream<ReservationToSheetDTO> streamToSheet();
+
+    @Query(value = "SELECT CASE WHEN EXISTS (SELECT 1 FROM VW_RESERVATIONS_WITH_PACKAGE) THEN 1 ELSE 0 END", nativeQuery = true)
+    int existsToSheet();
+
+    /**
+     * Identifica o estado atual dos dados da view de exportação (contagens e
+     * última alteração das tabelas de origem). Se o valor não mudou, um
+     * arquivo gerado anteriormente continua válido.
+     */
+    @Query(value = """
+        SELECT CONCAT(
+            (SELECT COUNT(*) FROM TB_RESERVATIONS), '|',
+            (SELECT CONVERT(VARCHAR(33), MAX(UPDATED_AT), 126) FROM TB_RESERVATIONS), '|',
+            (SELECT COUNT(*) FROM TB_TRAVELERS), '|',
+            (SELECT CONVERT(VARCHAR(33), MAX(UPDATED_AT), 126) FROM TB_TRAVELERS), '|',
+            (SELECT CONVERT(VARCHAR(33), MAX(UPDATED_AT), 126) FROM TB_PACKAGES), '|',
+            (SELECT CONVERT(VARCHAR(33), MAX(UPDATED_AT), 126) FROM TB_USERS))
+        """, nativeQuery = true)
+    String exportFingerprint();
 
     /**
      * Verifica se existem reservas para um pacote de viagem que não estejam no
@@ -1,24 +1,113 @@
 package com.orvian.travelapi.domain.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.orvian.travelapi.controller.dto.travelpackage.PackageSummaryDTO;
 import com.orvian.travelapi.controller.dto.travelpackage.PaymentByPackageDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import com.orvian.travelapi.domain.model.TravelPackage;
+import com.orvian.travelapi.service.search.PackageFacetRow;
+import com.orvian.travelapi.service.search.PackageSearchDocument;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TravelPackageRepository extends JpaRepository<TravelPackage, UUID> {
+public interface TravelPackageRepository extends JpaRepository<TravelPackage, UUID>, JpaSpecificationExecutor<TravelPackage> {
 
     Optional<TravelPackage> findByTitle(String title);
 
     Page<TravelPackage> findAll(Specification<TravelPackage> spec, Pageable pageable);
 
+    /**
+     * Campos indexados pelo PackageSearchIndex, sem carregar as entidades.
+     */
+    @Query("""
+        SELECT new com.orvian.travelapi.service.search.PackageSearchDocument(p.id, p.title, p.destination, p.createdAt)
+        FROM TravelPackage p
+        """)
+    List<PackageSearchDocument> findAllSearchDocuments();
+
+    /**
+     * Listagem resumida: apenas as colunas dos cards, com a próxima saída
+     * calculada no banco. O filtro de texto (título ou destino, como no índice)
+     * só é usado enquanto o índice de busca não está disponível.
+     */
+    @Query(value = """
+        SELECT new com.orvian.travelapi.controller.dto.travelpackage.PackageSummaryDTO(
+            p.id, p.title, p.destination, p.price, p.duration,
+            (SELECT MIN(d.startDate) FROM PackageDate d WHERE d.travelPackage = p AND d.startDate >= :today))
+        FROM TravelPackage p
+        WHERE (:title IS NULL OR UPPER(p.title) LIKE CONCAT('%', UPPER(:title), '%')
+            OR UPPER(p.destination) LIKE CONCAT('%', UPPER(:title), '%'))
+        ORDER BY p.createdAt DESC
+        """,
+            countQuery = """
+        SELECT COUNT(p) FROM TravelPackage p
+        WHERE (:title IS NULL OR UPPER(p.title) LIKE CONCAT('%', UPPER(:title), '%')
+            OR UPPER(p.destination) LIKE CONCAT('%', UPPER(:title), '%'))
+        """)
+    Page<PackageSummaryDTO> findSummaries(@Param("title") String title, @Param("today") LocalDate today,
+            Pageable pageable);
+
+    @Query("""
+        SELECT new com.orvian.travelapi.controller.dto.travelpackage.PackageSummaryDTO(
+            p.id, p.title, p.destination, p.price, p.duration,
+            (SELECT MIN(d.startDate) FROM PackageDate d WHERE d.travelPackage = p AND d.startDate >= :today))
+        FROM TravelPackage p
+        WHERE p.id IN :ids
+        """)
+    List<PackageSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<UUID> ids, @Param("today") LocalDate today);
+
+    /**
+     * Colunas da busca facetada, do pacote mais recente para o mais antigo.
+     */
+    @Query("""
+        SELECT new com.orvian.travelapi.service.search.PackageFacetRow(
+            p.id, p.title, p.destination, p.price, p.duration, p.maxPeople, p.createdAt)
+        FROM TravelPackage p
+        ORDER BY p.createdAt DESC, p.id DESC
+        """)
+    List<PackageFacetRow> findAllFacetRows();
+
+    /**
+     * Dentre os IDs informados, os que atendem aos filtros opcionais de data
+     * de início e capacidade. Consulta por chave primária, sem varrer a
+     * tabela.
+     */
+    @Query("""
+        SELECT p.id FROM TravelPackage p
+        WHERE p.id IN :ids
+          AND (:maxPeople IS NULL OR p.maxPeople >= :maxPeople)
+          AND (:startDate IS NULL OR EXISTS (
+                SELECT 1 FROM PackageDate d WHERE d.travelPackage = p AND d.startDate >= :startDate))
+        """)
+    List<UUID> filterIds(@Param("ids") Collection<UUID> ids, @Param("startDate") LocalDate startDate,
+            @Param("maxPeople") Integer maxPeople);
+
+    /**
+     * Dentre os IDs informados, os que têm uma saída na janela [from, to] com
+     * ao menos "seats" vagas livres.
+     */
+    @Query("""
+        SELECT p.id FROM TravelPackage p
+        WHERE p.id IN :ids
+          AND EXISTS (
+                SELECT 1 FROM PackageDate d
+                WHERE d.travelPackage = p
+                  AND d.startDate >= :from AND d.startDate <= :to
+                  AND d.qtd_available >= :seats)
+        """)
+    List<UUID> filterAvailableIds(@Param("ids") Collection<UUID> ids, @Param("from") LocalDate from,
+            @Param("to") LocalDate to, @Param("seats") int seats);
+
     @Query(value = "SELECT * FROM VW_CONFIRMED_RESERVATIONS_SUM_PAYMENTS_BY_DESTINATION", nativeQuery = true)
     List<PaymentByPackageDTO> sumTotalByPackage();
 
@@ -8,6 +8,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
+import com.orvian.travelapi.controller.dto.media.MediaMetadataDTO;
 import com.orvian.travelapi.controller.dto.media.SearchMediaDTO;
 import com.orvian.travelapi.controller.dto.packagedate.SearchPackageDateDTO;
 import com.orvian.travelapi.controller.dto.payment.CreatePaymentDTO;
@@ -16,7 +17,6 @@ import com.orvian.travelapi.controller.dto.reservation.CreateReservationDTO;
 import com.orvian.travelapi.controller.dto.reservation.ReservationSearchResultDTO;
 import com.orvian.travelapi.controller.dto.reservation.UpdateReservationDTO;
 import com.orvian.travelapi.controller.dto.traveler.CreateTravelerDTO;
-import com.orvian.travelapi.domain.model.Media;
 import com.orvian.travelapi.domain.model.PackageDate;
 import com.orvian.travelapi.domain.model.Payment;
 import com.orvian.travelapi.domain.model.Reservation;
@@ -59,17 +59,13 @@ public interface ReservationMapper {
     @Mapping(target = "payment", source = "payment")
     @Mapping(target = "packageDate", source = "reservation.packageDate")
     @Mapping(target = "firstMedia", expression = "java(toSearchMediaDTO(firstMedia))")
-    ReservationSearchResultDTO toDTOWithFirstMedia(Reservation reservation, Payment payment, Media firstMedia);
+    ReservationSearchResultDTO toDTOWithFirstMedia(Reservation reservation, Payment payment, MediaMetadataDTO firstMedia);
 
     // ✅ Método auxiliar para conversão de mídia
-    default SearchMediaDTO toSearchMediaDTO(Media media) {
+    default SearchMediaDTO toSearchMediaDTO(MediaMetadataDTO media) {
         if (media == null) {
             return null;
         }
-        return new SearchMediaDTO(
-                media.getId(),
-                media.getType(),
-                java.util.Base64.getEncoder().encodeToString(media.getContent64())
-        );
+        return SearchMediaDTO.of(media.id(), media.type());
     }
 }
@@ -12,6 +12,7 @@ import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import com.orvian.travelapi.controller.dto.media.CreateMediaDTO;
+import com.orvian.travelapi.controller.dto.media.MediaMetadataDTO;
 import com.orvian.travelapi.controller.dto.media.SearchMediaDTO;
 import com.orvian.travelapi.controller.dto.packagedate.CreatePackageDateDTO;
 import com.orvian.travelapi.controller.dto.packagedate.SearchPackageDateDTO;
@@ -20,6 +21,7 @@ import com.orvian.travelapi.controller.dto.travelpackage.CreateTravelPackageDTO;
 import com.orvian.travelapi.controller.dto.travelpackage.PackageSearchResultDTO;
 import com.orvian.travelapi.controller.dto.travelpackage.UpdateTravelPackageDTO;
 import com.orvian.travelapi.domain.model.Media;
+import com.orvian.travelapi.domain.model.MediaContent;
 import com.orvian.travelapi.domain.model.PackageDate;
 import com.orvian.travelapi.domain.model.TravelPackage;
 
@@ -94,7 +96,6 @@ public interface TravelPackageMapper {
         return mediaDTOS.stream()
                 .map(dto -> {
                     Media media = new Media();
-                    media.setContent64(Base64.getDecoder().decode(dto.content64()));
                     media.setType(dto.type());
                     media.setTravelPackage(travelPackage);
                     return media;
@@ -102,42 +103,37 @@ public interface TravelPackageMapper {
                 .collect(Collectors.toList());
     }
 
-    default SearchMediaDTO toSearchMediaDTO(Media media) {
-        return new SearchMediaDTO(
-                media.getId(),
-                media.getType(),
-                java.util.Base64.getEncoder().encodeToString(media.getContent64())
-        );
+    /**
+     * Conteúdo da mídia já persistida, decodificado do Base64 recebido.
+     */
+    default MediaContent toMediaContent(Media media, CreateMediaDTO dto) {
+        return new MediaContent(media.getId(), Base64.getDecoder().decode(dto.content64()));
     }
 
-    default List<SearchMediaDTO> toSearchMediaDTOList(List<Media> medias) {
+    default SearchMediaDTO toSearchMediaDTO(MediaMetadataDTO media) {
+        return SearchMediaDTO.of(media.id(), media.type());
+    }
+
+    default List<SearchMediaDTO> toSearchMediaDTOList(List<MediaMetadataDTO> medias) {
         if (medias == null) {
             return List.of();
         }
         return medias.stream()
-                .map(media -> new SearchMediaDTO(
-                media.getId(),
-                media.getType(),
-                java.util.Base64.getEncoder().encodeToString(media.getContent64())
-        ))
+                .map(this::toSearchMediaDTO)
                 .toList();
     }
 
-    @Mapping(target = "packageDates", source = "packageDates")
-    @Mapping(target = "medias", source = "travelPackage.media")
-    PackageSearchResultDTO toDTOWithDates(TravelPackage travelPackage, List<PackageDate> packageDates);
-
     @Mapping(target = "packageDates", source = "packageDates")
     @Mapping(target = "medias", source = "firstMediaList")
     PackageSearchResultDTO toDTOWithDatesAndFirstMedia(
             TravelPackage travelPackage,
             List<PackageDate> packageDates,
-            List<Media> firstMediaList);
+            List<MediaMetadataDTO> firstMediaList);
 
     @Mapping(target = "packageDates", source = "packageDates")
     @Mapping(target = "medias", source = "medias")
     PackageSearchResultDTO toDTOWithDatesAndMedias(
             TravelPackage travelPackage,
             List<PackageDate> packageDates,
-            List<Media> medias);
+            List<MediaMetadataDTO> medias);
 }
@@ -0,0 +1,16 @@
+package com.orvian.travelapi.service;
+
+import com.orvian.travelapi.controller.dto.admin.DashboardDTO;
+
+public interface DashboardService {
+
+    /**
+     * Último snapshot calculado do dashboard semanal.
+     */
+    DashboardDTO getWeekSnapshot();
+
+    /**
+     * Recalcula o snapshot imediatamente e o retorna.
+     */
+    DashboardDTO refreshWeekSnapshot();
+}
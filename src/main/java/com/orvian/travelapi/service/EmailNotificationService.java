@@ -1,9 +1,19 @@
 package com.orvian.travelapi.service;
 
+import java.util.List;
+
 import com.orvian.travelapi.controller.dto.email.EmailConfirmationDTO;
+import com.orvian.travelapi.controller.dto.email.ReservationCancellationEmailDTO;
 
 public interface EmailNotificationService {
 
     void sendPaymentConfirmationEmail(EmailConfirmationDTO confirmationData);
     void sendPasswordResetEmail(String to, String resetLink);
+
+    /**
+     * Enfileira os avisos de cancelamento na transação atual.
+     *
+     * @return quantidade de emails enfileirados
+     */
+    int sendReservationCancellationEmails(List<ReservationCancellationEmailDTO> cancellations);
 }
@@ -0,0 +1,29 @@
+package com.orvian.travelapi.service;
+
+import java.io.OutputStream;
+import java.util.UUID;
+
+import com.orvian.travelapi.controller.dto.export.ExportJobDTO;
+import com.orvian.travelapi.domain.enums.ExportFormat;
+
+public interface ExportJobService {
+
+    /**
+     * Enfileira a exportação ou reaproveita um job equivalente enquanto os
+     * dados não mudarem. Retorna null quando não há reservas para exportar.
+     */
+    ExportJobDTO submit(ExportFormat format);
+
+    ExportJobDTO findById(UUID id);
+
+    /**
+     * Job concluído cujo arquivo pode ser baixado; BusinessException se ainda
+     * não terminou ou falhou.
+     */
+    ExportJobDTO findCompletedById(UUID id);
+
+    /**
+     * Copia o arquivo gerado pelo job para o stream.
+     */
+    void writeResult(UUID id, OutputStream out);
+}
@@ -1,8 +1,24 @@
 package com.orvian.travelapi.service;
 
+import com.orvian.travelapi.controller.dto.media.MediaMetadataDTO;
 import com.orvian.travelapi.domain.model.Media;
 
+import java.io.OutputStream;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface MediaService extends CrudService<UUID, Media> {
+
+    @Override
+    Optional<Media> findById(UUID id);
+
+    Optional<MediaMetadataDTO> findMetadataById(UUID id);
+
+    Optional<Long> findContentLengthById(UUID id);
+
+    /**
+     * Copia o conteúdo da mídia para o stream sem carregá-lo inteiro em
+     * memória.
+     */
+    void writeContent(UUID id, OutputStream out);
 }
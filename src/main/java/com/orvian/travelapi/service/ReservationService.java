@@ -1,11 +1,14 @@
 package com.orvian.travelapi.service;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 
+import com.orvian.travelapi.controller.dto.pagination.CursorPageDTO;
+import com.orvian.travelapi.controller.dto.reservation.BulkCancellationResultDTO;
 import com.orvian.travelapi.controller.dto.reservation.ReservationDateDTO;
 import com.orvian.travelapi.controller.dto.reservation.ReservationSearchResultDTO;
 import com.orvian.travelapi.domain.enums.ReservationSituation;
@@ -22,9 +25,30 @@ public interface ReservationService extends CrudService<UUID, Reservation> {
     Page<ReservationSearchResultDTO> findAllByStatusAndDate(Integer pageNumber, Integer pageSize,
             UUID userId, ReservationSituation status, LocalDate reservationDate);
 
+    /**
+     * Listagem por cursor (keyset), sem OFFSET; o total só é contado quando
+     * withTotal for verdadeiro.
+     */
+    CursorPageDTO<ReservationSearchResultDTO> findAllByCursor(String cursor, Integer pageSize, UUID userId, boolean withTotal);
+
     List<ReservationDateDTO> findAvailableReservationDates(UUID userId);
 
-    byte[] exportReservationsToExcel();
+    /**
+     * Cancela todas as reservas ativas de uma data de pacote, devolve as vagas
+     * e enfileira os avisos aos clientes.
+     */
+    BulkCancellationResultDTO cancelByPackageDate(UUID packageDateId);
+
+    boolean hasReservationsToExport();
+
+    /**
+     * Escreve a planilha de reservas diretamente no stream informado, sem
+     * materializar todas as linhas em memória.
+     */
+    void exportReservationsToExcel(OutputStream out);
 
-    byte[] exportReservationsToPdf();
+    /**
+     * Escreve o relatório PDF de reservas diretamente no stream informado.
+     */
+    void exportReservationsToPdf(OutputStream out);
 }
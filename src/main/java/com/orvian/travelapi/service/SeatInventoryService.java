@@ -0,0 +1,25 @@
+package com.orvian.travelapi.service;
+
+import java.util.UUID;
+
+import com.orvian.travelapi.domain.model.Reservation;
+
+public interface SeatInventoryService {
+
+    /**
+     * Reserva atomicamente {@code seats} vagas da data de pacote. Lança
+     * NotFoundException se a data não existir e BusinessException se não
+     * houver vagas suficientes.
+     */
+    void reserve(UUID packageDateId, int seats);
+
+    /**
+     * Devolve {@code seats} vagas para a data de pacote.
+     */
+    void release(UUID packageDateId, int seats);
+
+    /**
+     * Quantidade de vagas ocupadas por uma reserva (um por viajante, mínimo 1).
+     */
+    int seatsFor(Reservation reservation);
+}
@@ -1,12 +1,18 @@
 package com.orvian.travelapi.service;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 
+import com.orvian.travelapi.controller.dto.pagination.CursorPageDTO;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageFacetedSearchDTO;
 import com.orvian.travelapi.controller.dto.travelpackage.PackageSearchResultDTO;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageSuggestionDTO;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageSummaryDTO;
 import com.orvian.travelapi.domain.model.TravelPackage;
+import com.orvian.travelapi.service.search.PackageFacetFilter;
 
 public interface TravelPackageService extends CrudService<UUID, TravelPackage> {
 
@@ -20,7 +26,30 @@ public interface TravelPackageService extends CrudService<UUID, TravelPackage> {
     @Override
     Page<PackageSearchResultDTO> findAll(Integer pageNumber, Integer pageSize, String title);
 
+    /**
+     * Mesma listagem de findAll na visão resumida dos cards.
+     */
+    Page<PackageSummaryDTO> findAllSummaries(Integer pageNumber, Integer pageSize, String title);
+
     @Override
     PackageSearchResultDTO findById(UUID id);
 
+    /**
+     * Pacotes com ao menos uma saída entre from e to (inclusive) que ainda
+     * tenha "seats" vagas livres.
+     */
+    Page<PackageSearchResultDTO> findAvailable(Integer pageNumber, Integer pageSize, String title,
+            LocalDate from, LocalDate to, int seats);
+
+    List<PackageSuggestionDTO> suggest(String query, int limit);
+
+    /**
+     * Página de pacotes e contagens por destino, faixa de preço, duração e mês
+     * de saída, calculadas em uma única passagem.
+     */
+    PackageFacetedSearchDTO<Page<PackageSearchResultDTO>> findAllFaceted(Integer pageNumber, Integer pageSize,
+            PackageFacetFilter filter);
+
+    CursorPageDTO<PackageSearchResultDTO> findAllByCursor(String cursor, Integer pageSize, String title, boolean withTotal);
+
 }
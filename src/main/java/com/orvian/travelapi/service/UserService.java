@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 
+import com.orvian.travelapi.controller.dto.pagination.CursorPageDTO;
 import com.orvian.travelapi.controller.dto.user.UserSearchResultDTO;
 import com.orvian.travelapi.domain.model.User;
 
@@ -15,4 +16,6 @@ public interface UserService extends CrudService<UUID, User> {
 
     @Override
     UserSearchResultDTO findById(UUID id);
+
+    CursorPageDTO<UserSearchResultDTO> findAllByCursor(String cursor, Integer pageSize, String name, boolean withTotal);
 }
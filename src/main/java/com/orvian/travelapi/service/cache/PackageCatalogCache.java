@@ -0,0 +1,216 @@
+package com.orvian.travelapi.service.cache;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.orvian.travelapi.config.CatalogCacheProperties;
+import com.orvian.travelapi.controller.dto.admin.CacheStatsDTO;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageSearchResultDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache em memória do catálogo público de pacotes.
+ *
+ * Os pacotes são armazenados por ID em dois formatos: o de listagem (datas e
+ * primeira mídia) e o de detalhe (todas as mídias). As páginas de listagem e
+ * busca guardam apenas os IDs e o total, de modo que uma página aquecida é
+ * montada sem acessar o banco.
+ *
+ * Escritas em pacotes invalidam o pacote afetado e todas as páginas (um
+ * pacote novo ou alterado pode mudar a composição de qualquer página). Já a
+ * reserva ou liberação de vagas só altera as datas exibidas do próprio
+ * pacote: nenhuma página em cache filtra por vagas, então apenas as entradas
+ * do pacote são invalidadas e as páginas que o contêm recarregam na próxima
+ * leitura.
+ *
+ * Para não reinserir dados lidos antes de uma invalidação, cada gravação
+ * informa a marca obtida antes da leitura no banco: ela é descartada por
+ * inteiro se houve invalidação geral depois da marca, e o pacote é ignorado
+ * se suas vagas mudaram depois dela. As marcas por pacote ficam em um cache
+ * limitado com o mesmo TTL das páginas; quando uma marca sai do cache, ela
+ * passa a valer para todos os pacotes sem marca, de modo que uma leitura
+ * iniciada antes dela continua descartada.
+ */
+@Component
+@Slf4j
+public class PackageCatalogCache {
+
+    private final Cache<UUID, PackageSearchResultDTO> summaries;
+    private final Cache<UUID, PackageSearchResultDTO> details;
+    private final Cache<PageKey, PageEntry> pages;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long invalidatedAt;
+    private final Cache<UUID, Long> packageInvalidatedAt;
+    private final AtomicLong evictedPackageMark = new AtomicLong();
+
+    public PackageCatalogCache(CatalogCacheProperties properties) {
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.details = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxPages())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        // O evictionListener roda na própria remoção, antes de a marca sumir
+        this.packageInvalidatedAt = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .<UUID, Long>evictionListener((packageId, mark, cause) ->
+                        evictedPackageMark.accumulateAndGet(mark, Math::max))
+                .build();
+    }
+
+    /**
+     * Chave de uma página de listagem/busca. Filtros ausentes são nulos.
+     */
+    public record PageKey(String title, LocalDate startDate, Integer maxPeople, int pageNumber, int pageSize) {
+
+    }
+
+    private record PageEntry(List<UUID> ids, long total) {
+
+    }
+
+    /**
+     * Marca a ser obtida antes da leitura no banco e repassada a putPage e
+     * putDetail.
+     */
+    public long generation() {
+        return sequence.get();
+    }
+
+    /**
+     * Retorna a página em cache ou null se a página ou algum de seus pacotes
+     * não estiver disponível.
+     */
+    public Page<PackageSearchResultDTO> getPage(PageKey key, Pageable pageable) {
+        PageEntry entry = pages.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+
+        Map<UUID, PackageSearchResultDTO> cached = summaries.getAllPresent(entry.ids());
+        if (cached.size() < entry.ids().size()) {
+            return null;
+        }
+
+        List<PackageSearchResultDTO> content = entry.ids().stream().map(cached::get).toList();
+        return new PageImpl<>(content, pageable, entry.total());
+    }
+
+    public void putPage(PageKey key, Page<PackageSearchResultDTO> page, long readGeneration) {
+        if (readGeneration < invalidatedAt) {
+            return;
+        }
+        page.getContent().stream()
+                .filter(dto -> isCurrent(dto.id(), readGeneration))
+                .forEach(dto -> summaries.put(dto.id(), dto));
+        pages.put(key, new PageEntry(page.getContent().stream().map(PackageSearchResultDTO::id).toList(),
+                page.getTotalElements()));
+    }
+
+    public PackageSearchResultDTO getDetail(UUID packageId) {
+        return details.getIfPresent(packageId);
+    }
+
+    public void putDetail(PackageSearchResultDTO dto, long readGeneration) {
+        if (readGeneration >= invalidatedAt && isCurrent(dto.id(), readGeneration)) {
+            details.put(dto.id(), dto);
+        }
+    }
+
+    private boolean isCurrent(UUID packageId, long readGeneration) {
+        Long mark = packageInvalidatedAt.getIfPresent(packageId);
+        return (mark != null ? mark : evictedPackageMark.get()) <= readGeneration;
+    }
+
+    /**
+     * Invalida o pacote e as páginas. Dentro de uma transação a invalidação é
+     * repetida após o commit, evitando que leituras concorrentes reinsiram o
+     * estado anterior.
+     */
+    public void evict(UUID packageId) {
+        evictNow(packageId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(packageId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(UUID packageId) {
+        invalidatedAt = sequence.incrementAndGet();
+        if (packageId != null) {
+            summaries.invalidate(packageId);
+            details.invalidate(packageId);
+        }
+        pages.invalidateAll();
+        log.debug("Catalog cache evicted for package {}", packageId);
+    }
+
+    /**
+     * Invalida apenas as entradas do pacote cujas vagas mudaram, mantendo as
+     * páginas e os demais pacotes. Assim como em evict, a invalidação é
+     * repetida após o commit.
+     */
+    public void evictAvailability(UUID packageId) {
+        evictAvailabilityNow(packageId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictAvailabilityNow(packageId);
+                }
+            });
+        }
+    }
+
+    private void evictAvailabilityNow(UUID packageId) {
+        packageInvalidatedAt.put(packageId, sequence.incrementAndGet());
+        summaries.invalidate(packageId);
+        details.invalidate(packageId);
+        log.debug("Catalog availability evicted for package {}", packageId);
+    }
+
+    public List<CacheStatsDTO> stats() {
+        return List.of(
+                toStats("packages-summary", summaries),
+                toStats("packages-detail", details),
+                toStats("package-pages", pages));
+    }
+
+    private static CacheStatsDTO toStats(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDTO(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+
+    public static PageKey pageKey(String title, LocalDate startDate, Integer maxPeople, int pageNumber, int pageSize) {
+        return new PageKey((title == null || title.isBlank()) ? null : title, startDate, maxPeople, pageNumber, pageSize);
+    }
+}
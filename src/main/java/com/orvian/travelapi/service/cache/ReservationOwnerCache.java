@@ -0,0 +1,55 @@
+package com.orvian.travelapi.service.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.orvian.travelapi.domain.repository.ReservationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache reserva -> dono usado nas verificações de propriedade. O dono de uma
+ * reserva nunca muda, então as entradas só precisam ser removidas quando a
+ * reserva deixa de existir (exclusão do usuário dono); o TTL cobre exclusões
+ * feitas fora da aplicação.
+ */
+@Component
+@Slf4j
+public class ReservationOwnerCache {
+
+    private final ReservationRepository reservationRepository;
+    private final Cache<UUID, UUID> owners;
+
+    public ReservationOwnerCache(ReservationRepository reservationRepository,
+            @Value("${orvian.cache.reservation-owner.ttl:30m}") Duration ttl,
+            @Value("${orvian.cache.reservation-owner.max-entries:50000}") long maxEntries) {
+        this.reservationRepository = reservationRepository;
+        this.owners = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(ttl)
+                .build();
+    }
+
+    /**
+     * ID do dono da reserva, consultando apenas a coluna USER_ID em caso de
+     * miss. Reservas inexistentes não são armazenadas.
+     */
+    public Optional<UUID> findOwnerId(UUID reservationId) {
+        return Optional.ofNullable(owners.get(reservationId,
+                id -> reservationRepository.findOwnerIdById(id).orElse(null)));
+    }
+
+    /**
+     * Remove as entradas das reservas de um usuário excluído
+     */
+    public void evictByOwner(UUID userId) {
+        owners.asMap().values().removeIf(userId::equals);
+        log.debug("Reservation owner cache evicted for user {}", userId);
+    }
+}
@@ -0,0 +1,103 @@
+package com.orvian.travelapi.service.email;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Template HTML com marcadores {@code {{nome}}} compilado uma única vez em uma
+ * lista de segmentos. A renderização só concatena trechos fixos e valores em
+ * um StringBuilder reaproveitado por thread, sem reinterpretar o texto como o
+ * String.format fazia a cada email.
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /**
+     * Builders maiores que isso não ficam presos à thread depois do uso
+     */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    private final String[] literals;
+    private final int[] slots;
+    private final int variableCount;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, int[] slots, int variableCount) {
+        this.literals = literals;
+        this.slots = slots;
+        this.variableCount = variableCount;
+        this.literalLength = Arrays.stream(literals).mapToInt(String::length).sum();
+    }
+
+    /**
+     * Compila o template. Os valores de {@link #render(Object...)} seguem a
+     * ordem de {@code variables}; marcadores desconhecidos ou variáveis não
+     * usadas falham na inicialização em vez de gerar emails quebrados.
+     */
+    public static CompiledTemplate compile(String source, String... variables) {
+        List<String> names = Arrays.asList(variables);
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        boolean[] used = new boolean[variables.length];
+
+        int position = 0;
+        while (true) {
+            int start = source.indexOf(OPEN, position);
+            if (start < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            int end = source.indexOf(CLOSE, start + OPEN.length());
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at index " + start);
+            }
+            String name = source.substring(start + OPEN.length(), end).trim();
+            int slot = names.indexOf(name);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Unknown template variable: " + name);
+            }
+            used[slot] = true;
+            literals.add(source.substring(position, start));
+            slots.add(slot);
+            position = end + CLOSE.length();
+        }
+
+        for (int i = 0; i < used.length; i++) {
+            if (!used[i]) {
+                throw new IllegalArgumentException("Template variable not used: " + variables[i]);
+            }
+        }
+
+        return new CompiledTemplate(
+                literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(),
+                variables.length);
+    }
+
+    public String render(Object... values) {
+        if (values.length != variableCount) {
+            throw new IllegalArgumentException("Expected " + variableCount + " template values but got " + values.length);
+        }
+
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        out.ensureCapacity(literalLength + 256);
+        try {
+            out.append(literals[0]);
+            for (int i = 0; i < slots.length; i++) {
+                out.append(values[slots[i]]);
+                out.append(literals[i + 1]);
+            }
+            return out.toString();
+        } finally {
+            if (out.capacity() > MAX_RETAINED_CAPACITY) {
+                BUFFER.remove();
+            }
+        }
+    }
+}
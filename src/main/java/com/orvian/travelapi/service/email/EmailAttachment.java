@@ -0,0 +1,8 @@
+package com.orvian.travelapi.service.email;
+
+public record EmailAttachment(
+        String fileName,
+        String contentType,
+        byte[] content
+) {
+}
@@ -0,0 +1,15 @@
+package com.orvian.travelapi.service.email;
+
+/**
+ * Anexo gerado pelo worker do outbox na hora do envio. No enfileiramento só
+ * os dados necessários são gravados (toPayload); o arquivo é gerado em
+ * render, fora da transação e da requisição.
+ */
+public interface EmailAttachmentStrategy {
+
+    String toPayload(Object data);
+
+    EmailAttachment render(String payload);
+
+    String getAttachmentType();
+}
@@ -0,0 +1,425 @@
+package com.orvian.travelapi.service.email;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orvian.travelapi.config.EmailConfigProperties;
+import com.orvian.travelapi.config.EmailOutboxProperties;
+import com.orvian.travelapi.controller.dto.admin.EmailOutboxStatsDTO;
+import com.orvian.travelapi.domain.enums.EmailOutboxStatus;
+import com.orvian.travelapi.domain.model.EmailOutbox;
+import com.orvian.travelapi.domain.repository.EmailOutboxRepository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Envia os emails gravados no outbox. Cada worker reserva um lote, envia
+ * todos pela mesma conexão SMTP e continua reaproveitando a conexão até a fila
+ * esvaziar. Falhas voltam para a fila com backoff exponencial até
+ * {@code maxAttempts}, quando o email fica como FALHOU. Se o SMTP estiver
+ * inacessível, o lote volta para a fila sem contar tentativa. O resultado só
+ * é gravado enquanto a reserva (claim token) ainda pertence ao worker.
+ */
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository repository;
+    private final JavaMailSenderImpl mailSender;
+    private final EmailConfigProperties emailProperties;
+    private final EmailOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, EmailAttachmentStrategy> attachmentMap;
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    public EmailOutboxDispatcher(EmailOutboxRepository repository,
+            JavaMailSenderImpl mailSender,
+            EmailConfigProperties emailProperties,
+            EmailOutboxProperties properties,
+            TransactionTemplate transactionTemplate,
+            List<EmailAttachmentStrategy> attachmentStrategies) {
+        this.repository = repository;
+        this.mailSender = mailSender;
+        this.emailProperties = emailProperties;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.attachmentMap = attachmentStrategies.stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        EmailAttachmentStrategy::getAttachmentType,
+                        Function.identity()
+                ));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getWorkers(),
+                properties.getWorkers(),
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "email-outbox-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Grava o email no outbox dentro da transação atual e acorda os workers
+     * somente depois do commit, para nunca enviar algo que sofreu rollback.
+     */
+    public void enqueue(String templateType, String recipient, String subject, String htmlBody) {
+        enqueue(templateType, recipient, subject, htmlBody, null, null);
+    }
+
+    /**
+     * Como {@link #enqueue(String, String, String, String)}, com um anexo que
+     * só é gerado pelo worker no momento do envio.
+     */
+    public void enqueue(String templateType, String recipient, String subject, String htmlBody,
+            String attachmentType, Object attachmentData) {
+        EmailOutbox email = newEmail(templateType, new RenderedEmail(recipient, subject, htmlBody));
+        if (attachmentType != null) {
+            email.setAttachmentType(attachmentType);
+            email.setAttachmentData(attachmentStrategy(attachmentType).toPayload(attachmentData));
+        }
+        repository.save(email);
+        wakeUpAfterCommit();
+    }
+
+    /**
+     * Enfileira muitos emails do mesmo tipo em lotes de
+     * {@code enqueueBatchSize}, descarregando cada lote com inserts em batch
+     * do JDBC e acordando os workers uma única vez após o commit.
+     */
+    public int enqueueAll(String templateType, List<RenderedEmail> emails) {
+        List<EmailOutbox> chunk = new ArrayList<>(Math.min(emails.size(), properties.getEnqueueBatchSize()));
+        for (RenderedEmail rendered : emails) {
+            chunk.add(newEmail(templateType, rendered));
+            if (chunk.size() == properties.getEnqueueBatchSize()) {
+                repository.saveAll(chunk);
+                repository.flush();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            repository.saveAll(chunk);
+            repository.flush();
+        }
+        wakeUpAfterCommit();
+        return emails.size();
+    }
+
+    private void wakeUpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    /**
+     * Inicia um worker se ainda houver vaga no pool. Mensagens que chegarem
+     * enquanto todos estão ocupados são pegas no loop do próprio worker ou na
+     * próxima varredura agendada.
+     */
+    public void wakeUp() {
+        int current;
+        do {
+            current = activeWorkers.get();
+            if (current >= properties.getWorkers()) {
+                return;
+            }
+        } while (!activeWorkers.compareAndSet(current, current + 1));
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            activeWorkers.decrementAndGet();
+            log.warn("Email outbox worker rejected: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${orvian.email.outbox.poll-interval-ms:30000}",
+            initialDelayString = "${orvian.email.outbox.poll-interval-ms:30000}")
+    public void poll() {
+        LocalDateTime now = now();
+        Integer released = transactionTemplate.execute(status -> repository.releaseStale(
+                now.minus(properties.getSendingTimeout()), now,
+                EmailOutboxStatus.PENDENTE, EmailOutboxStatus.ENVIANDO));
+        if (released != null && released > 0) {
+            log.warn("Released {} stale outbox emails back to the queue", released);
+        }
+        wakeUp();
+    }
+
+    public EmailOutboxStatsDTO stats() {
+        Map<EmailOutboxStatus, Long> counts = new EnumMap<>(EmailOutboxStatus.class);
+        for (Object[] row : repository.countByStatus()) {
+            counts.put((EmailOutboxStatus) row[0], (Long) row[1]);
+        }
+        return new EmailOutboxStatsDTO(
+                counts.getOrDefault(EmailOutboxStatus.PENDENTE, 0L),
+                counts.getOrDefault(EmailOutboxStatus.ENVIANDO, 0L),
+                counts.getOrDefault(EmailOutboxStatus.ENVIADO, 0L),
+                counts.getOrDefault(EmailOutboxStatus.FALHOU, 0L),
+                repository.findOldestCreatedAt(EmailOutboxStatus.PENDENTE),
+                activeWorkers.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void drain() {
+        Transport transport = null;
+        try {
+            List<EmailOutbox> batch;
+            while (!Thread.currentThread().isInterrupted() && !(batch = claimBatch()).isEmpty()) {
+                Exception connectFailure = null;
+                List<EmailOutbox> processed = new ArrayList<>(batch.size());
+                List<EmailOutbox> unsent = new ArrayList<>();
+                for (EmailOutbox email : batch) {
+                    if (connectFailure != null) {
+                        // Sem conexão com o SMTP: o restante do lote volta para a fila sem tentar
+                        unsent.add(email);
+                        continue;
+                    }
+                    processed.add(email);
+                    MimeMessage message;
+                    try {
+                        message = toMimeMessage(email);
+                    } catch (MessagingException | RuntimeException e) {
+                        // Falha ao montar a mensagem (ex.: anexo): a conexão continua válida
+                        markFailed(email, e);
+                        continue;
+                    }
+                    try {
+                        transport = connected(transport);
+                    } catch (MessagingException | RuntimeException e) {
+                        connectFailure = e;
+                        processed.remove(email);
+                        unsent.add(email);
+                        continue;
+                    }
+                    try {
+                        transport.sendMessage(message, message.getAllRecipients());
+                        markSent(email);
+                    } catch (MessagingException | RuntimeException e) {
+                        markFailed(email, e);
+                        closeQuietly(transport);
+                        transport = null;
+                    }
+                }
+                saveOutcomes(processed, unsent, connectFailure);
+                log.debug("Email outbox batch of {} processed, {} requeued unsent", processed.size(), unsent.size());
+                if (connectFailure != null) {
+                    // Tentar de novo agora só reservaria e devolveria o mesmo lote
+                    log.warn("SMTP unavailable, {} outbox email(s) requeued without consuming an attempt: {}",
+                            unsent.size(), connectFailure.getMessage());
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Email outbox worker stopped: {}", e.getMessage(), e);
+        } finally {
+            closeQuietly(transport);
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Grava cada resultado condicionado ao claim token do lote: um email
+     * devolvido pelo releaseStale e reservado por outro worker não tem o
+     * status nem as tentativas sobrescritos por este. Os não enviados por
+     * falta de conexão voltam para a fila sem contar tentativa, com o
+     * próximo envio após o backoff inicial.
+     */
+    private void saveOutcomes(List<EmailOutbox> processed, List<EmailOutbox> unsent, Exception connectFailure) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = now();
+            int lost = 0;
+            for (EmailOutbox email : processed) {
+                lost += 1 - repository.completeClaim(email.getId(), email.getClaimToken(), email.getStatus(),
+                        email.getAttempts(), email.getNextAttemptAt(), email.getSentAt(), email.getLastError(), now);
+            }
+            if (!unsent.isEmpty()) {
+                List<UUID> ids = unsent.stream().map(EmailOutbox::getId).toList();
+                lost += unsent.size() - repository.releaseClaim(ids, unsent.get(0).getClaimToken(),
+                        now.plus(properties.getInitialBackoff()), truncate(connectFailure.getMessage()), now,
+                        EmailOutboxStatus.PENDENTE);
+            }
+            if (lost > 0) {
+                log.warn("{} outbox email(s) were released and re-claimed while this batch ran; their outcome was discarded",
+                        lost);
+            }
+        });
+    }
+
+    private static EmailOutbox newEmail(String templateType, RenderedEmail rendered) {
+        EmailOutbox email = new EmailOutbox();
+        email.setTemplateType(templateType);
+        email.setRecipient(rendered.recipient());
+        email.setSubject(rendered.subject());
+        email.setHtmlBody(rendered.htmlBody());
+        return email;
+    }
+
+    private List<EmailOutbox> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = now();
+            List<UUID> due = repository.findDueIds(EmailOutboxStatus.PENDENTE, now,
+                    PageRequest.of(0, properties.getBatchSize()));
+            if (due.isEmpty()) {
+                return List.of();
+            }
+            UUID token = UUID.randomUUID();
+            repository.claim(due, token, now, EmailOutboxStatus.PENDENTE, EmailOutboxStatus.ENVIANDO);
+            return repository.findByClaimToken(token);
+        });
+    }
+
+    /**
+     * Reaproveita a conexão aberta; só reconecta quando o servidor a fechou
+     * (timeout ou erro no envio anterior).
+     */
+    private Transport connected(Transport transport) throws MessagingException {
+        if (transport != null && transport.isConnected()) {
+            return transport;
+        }
+        closeQuietly(transport);
+        Transport fresh = mailSender.getSession().getTransport(mailSender.getProtocol());
+        fresh.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        return fresh;
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox email) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        helper.setFrom(emailProperties.getFrom());
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getHtmlBody(), true);
+
+        EmailAttachment attachment = renderAttachment(email);
+        if (attachment != null) {
+            helper.addAttachment(attachment.fileName(), new ByteArrayResource(attachment.content()),
+                    attachment.contentType());
+        }
+
+        mimeMessage.saveChanges();
+        return mimeMessage;
+    }
+
+    /**
+     * O corpo do email anuncia o anexo (ex.: voucher em PDF), então ele não
+     * sai sem: a falha ao gerar o anexo conta como tentativa e o email volta
+     * para a fila com backoff, como uma falha de envio.
+     */
+    private EmailAttachment renderAttachment(EmailOutbox email) {
+        if (email.getAttachmentType() == null) {
+            return null;
+        }
+        try {
+            return attachmentStrategy(email.getAttachmentType()).render(email.getAttachmentData());
+        } catch (RuntimeException e) {
+            log.error("Failed to render {} attachment for email {}: {}",
+                    email.getAttachmentType(), email.getId(), e.getMessage(), e);
+            throw new IllegalStateException("Failed to render " + email.getAttachmentType() + " attachment: "
+                    + e.getMessage(), e);
+        }
+    }
+
+    private EmailAttachmentStrategy attachmentStrategy(String attachmentType) {
+        EmailAttachmentStrategy strategy = attachmentMap.get(attachmentType);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Attachment not found for type: " + attachmentType);
+        }
+        return strategy;
+    }
+
+    private void markSent(EmailOutbox email) {
+        email.setStatus(EmailOutboxStatus.ENVIADO);
+        email.setAttempts(email.getAttempts() + 1);
+        email.setSentAt(now());
+        email.setLastError(null);
+    }
+
+    private void markFailed(EmailOutbox email, Exception e) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(truncate(e.getMessage()));
+
+        if (attempts >= properties.getMaxAttempts()) {
+            email.setStatus(EmailOutboxStatus.FALHOU);
+            log.error("Email {} ({}) to {} failed after {} attempts: {}",
+                    email.getId(), email.getTemplateType(), email.getRecipient(), attempts, e.getMessage());
+        } else {
+            email.setStatus(EmailOutboxStatus.PENDENTE);
+            email.setNextAttemptAt(now().plus(backoff(attempts)));
+            log.warn("Email {} ({}) attempt {} failed, retrying: {}",
+                    email.getId(), email.getTemplateType(), attempts, e.getMessage());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static void closeQuietly(Transport transport) {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP transport: {}", e.getMessage());
+        }
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
@@ -7,24 +7,21 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
-import lombok.RequiredArgsConstructor;
-
 @Component
-@RequiredArgsConstructor
 public class EmailTemplateFactory {
 
-    private final List<EmailTemplateStrategy> templateStrategies;
+    private final Map<String, EmailTemplateStrategy> templateMap;
 
-    private Map<String, EmailTemplateStrategy> getTemplateMap() {
-        return templateStrategies.stream()
-                .collect(Collectors.toMap(
+    public EmailTemplateFactory(List<EmailTemplateStrategy> templateStrategies) {
+        this.templateMap = templateStrategies.stream()
+                .collect(Collectors.toUnmodifiableMap(
                         EmailTemplateStrategy::getTemplateType,
                         Function.identity()
                 ));
     }
 
     public EmailTemplateStrategy getTemplate(String templateType) {
-        EmailTemplateStrategy template = getTemplateMap().get(templateType);
+        EmailTemplateStrategy template = templateMap.get(templateType);
 
         if (template == null) {
             throw new IllegalArgumentException("Template not found for type: " + templateType);
@@ -0,0 +1,8 @@
+package com.orvian.travelapi.service.email;
+
+public record RenderedEmail(
+        String recipient,
+        String subject,
+        String htmlBody
+) {
+}
@@ -2,21 +2,13 @@ package com.orvian.travelapi.service.email.impl;
 
 import org.springframework.stereotype.Component;
 
+import com.orvian.travelapi.service.email.CompiledTemplate;
 import com.orvian.travelapi.service.email.EmailTemplateStrategy;
 
 @Component
 public class PasswordResetTemplate implements EmailTemplateStrategy {
 
-    @Override
-    public String buildSubject(Object data) {
-        return "🔒 Redefinição de senha - Orvian Travel";
-    }
-
-    @Override
-    public String buildHtmlContent(Object data) {
-        String resetLink = (String) data;
-
-        return String.format("""
+    private static final CompiledTemplate HTML = CompiledTemplate.compile("""
             <!DOCTYPE html>
             <html lang="pt-BR">
             <head>
@@ -25,7 +17,7 @@ public class PasswordResetTemplate implements EmailTemplateStrategy {
             </head>
             <body style="font-family: Arial, sans-serif; background-color: #f4f4f4;">
                 <div style="max-width: 600px; margin: 0 auto; background: white; box-shadow: 0 0 10px rgba(0,0,0,0.1);">
-                    <div style="background: linear-gradient(135deg, #004657 0%%, #005a6b 100%%); color: white; padding: 30px 20px; text-align: center;">
+                    <div style="background: linear-gradient(135deg, #004657 0%, #005a6b 100%); color: white; padding: 30px 20px; text-align: center;">
                         <h1 style="margin: 0;">🔒 ORVIAN TRAVEL</h1>
                         <div style="background-color: #f7a700; color: #004657; display: inline-block; padding: 8px 16px; border-radius: 20px; margin-top: 15px; font-weight: bold;">
                             REDEFINIÇÃO DE SENHA
@@ -36,7 +28,7 @@ public class PasswordResetTemplate implements EmailTemplateStrategy {
                         <p>Recebemos uma solicitação para redefinir sua senha.</p>
                         <div style="background-color: #e7f3ff; padding: 20px; border-radius: 8px; margin: 20px 0;">
                             <p style="color: #004657; font-weight: bold;">Para criar uma nova senha, clique no botão abaixo:</p>
-                            <a href="%s" style="display: inline-block; background: #f7a700; color: #004657; padding: 12px 24px; border-radius: 6px; text-decoration: none; font-weight: bold; margin-top: 10px;">
+                            <a href="{{resetLink}}" style="display: inline-block; background: #f7a700; color: #004657; padding: 12px 24px; border-radius: 6px; text-decoration: none; font-weight: bold; margin-top: 10px;">
                                 Redefinir senha
                             </a>
                         </div>
@@ -52,7 +44,18 @@ public class PasswordResetTemplate implements EmailTemplateStrategy {
                 </div>
             </body>
             </html>
-            """, resetLink);
+            """, "resetLink");
+
+    @Override
+    public String buildSubject(Object data) {
+        return "🔒 Redefinição de senha - Orvian Travel";
+    }
+
+    @Override
+    public String buildHtmlContent(Object data) {
+        String resetLink = (String) data;
+
+        return HTML.render(resetLink);
     }
 
     @Override
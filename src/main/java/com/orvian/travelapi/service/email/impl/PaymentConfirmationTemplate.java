@@ -2,7 +2,7 @@ package com.orvian.travelapi.service.email.impl;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
@@ -10,31 +10,23 @@ import org.springframework.stereotype.Component;
 
 import com.orvian.travelapi.config.EmailConfigProperties;
 import com.orvian.travelapi.controller.dto.email.EmailConfirmationDTO;
+import com.orvian.travelapi.service.email.CompiledTemplate;
 import com.orvian.travelapi.service.email.EmailTemplateStrategy;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 @Component
 @RequiredArgsConstructor
-@Slf4j
 public class PaymentConfirmationTemplate implements EmailTemplateStrategy {
 
-    private final EmailConfigProperties emailProperties;
+    private static final ZoneId BRASILIA_ZONE = ZoneId.of("America/Sao_Paulo");
 
-    @Override
-    public String buildSubject(Object data) {
-        EmailConfirmationDTO emailData = (EmailConfirmationDTO) data;
-        return String.format("✈️ Orvian Travel - Pagamento Aprovado - Reserva #%s",
-                emailData.reservationId().toString().substring(0, 8));
-    }
-
-    @Override
-    public String buildHtmlContent(Object data) {
-        EmailConfirmationDTO emailData = (EmailConfirmationDTO) data;
-        String formattedDateTime = formatDateTimeForBrazilian(emailData.paymentApprovedAt());
+    private static final DateTimeFormatter BRAZILIAN_DATE_TIME = DateTimeFormatter.ofPattern(
+            "dd/MM/yyyy 'às' HH:mm",
+            Locale.forLanguageTag("pt-BR")
+    );
 
-        return String.format("""
+    private static final CompiledTemplate HTML = CompiledTemplate.compile("""
         <!DOCTYPE html>
         <html lang="pt-BR">
         <head>
@@ -48,7 +40,7 @@ public class PaymentConfirmationTemplate implements EmailTemplateStrategy {
             <div style="max-width: 600px; margin: 0 auto; background-color: white; box-shadow: 0 0 10px rgba(0,0,0,0.1);">
                 
                 <!-- Header colorido com gradiente -->
-                <div style="background: linear-gradient(135deg, #004657 0%%, #005a6b 100%%); color: white; padding: 30px 20px; text-align: center;">
+                <div style="background: linear-gradient(135deg, #004657 0%, #005a6b 100%); color: white; padding: 30px 20px; text-align: center;">
                     <h1 style="margin: 0; font-size: 28px; font-weight: bold;">
                         ✈️ ORVIAN TRAVEL
                     </h1>
@@ -61,7 +53,7 @@ public class PaymentConfirmationTemplate implements EmailTemplateStrategy {
                 <div style="padding: 30px 20px;">
                     
                     <!-- Saudação -->
-                    <h2 style="color: #004657; margin-top: 0;">Olá %s! 👋</h2>
+                    <h2 style="color: #004657; margin-top: 0;">Olá {{customerName}}! 👋</h2>
                     
                     <!-- Mensagem de sucesso -->
                     <div style="background-color: #e8f5e8; border-left: 4px solid #f7a700; padding: 15px; margin: 20px 0; border-radius: 4px;">
@@ -76,30 +68,30 @@ public class PaymentConfirmationTemplate implements EmailTemplateStrategy {
                             📋 DETALHES DA SUA RESERVA
                         </h3>
                         
-                        <table style="width: 100%%; border-collapse: collapse;">
+                        <table style="width: 100%; border-collapse: collapse;">
                             <tr>
                                 <td style="padding: 8px 0; color: #666; font-weight: bold;">Reserva ID:</td>
-                                <td style="padding: 8px 0; color: #004657;">%s</td>
+                                <td style="padding: 8px 0; color: #004657;">{{reservationId}}</td>
                             </tr>
                             <tr>
                                 <td style="padding: 8px 0; color: #666; font-weight: bold;">Pacote:</td>
-                                <td style="padding: 8px 0; color: #004657; font-weight: bold;">%s</td>
+                                <td style="padding: 8px 0; color: #004657; font-weight: bold;">{{packageTitle}}</td>
                             </tr>
                             <tr>
                                 <td style="padding: 8px 0; color: #666; font-weight: bold;">Destino:</td>
-                                <td style="padding: 8px 0; color: #004657;">🌍 %s</td>
+                                <td style="padding: 8px 0; color: #004657;">🌍 {{packageDestination}}</td>
                             </tr>
                             <tr>
                                 <td style="padding: 8px 0; color: #666; font-weight: bold;">Data de ida:</td>
-                                <td style="padding: 8px 0; color: #004657;">📅 %s</td>
+                                <td style="padding: 8px 0; color: #004657;">📅 {{tripStartDate}}</td>
                             </tr>
                             <tr>
                                 <td style="padding: 8px 0; color: #666; font-weight: bold;">Data de volta:</td>
-                                <td style="padding: 8px 0; color: #004657;">📅 %s</td>
+                                <td style="padding: 8px 0; color: #004657;">📅 {{tripEndDate}}</td>
                             </tr>
                             <tr>
                                 <td style="padding: 8px 0; color: #666; font-weight: bold;">Viajantes:</td>
-                                <td style="padding: 8px 0; color: #004657;">👥 %s pessoa(s)</td>
+                                <td style="padding: 8px 0; color: #004657;">👥 {{totalTravelers}} pessoa(s)</td>
                             </tr>
                         </table>
                     </div>
@@ -110,18 +102,18 @@ public class PaymentConfirmationTemplate implements EmailTemplateStrategy {
                             💳 INFORMAÇÕES DO PAGAMENTO
                         </h3>
                         
-                        <table style="width: 100%%; border-collapse: collapse;">
+                        <table style="width: 100%; border-collapse: collapse;">
                             <tr>
                                 <td style="padding: 8px 0; color: #666; font-weight: bold;">Valor total pago:</td>
-                                <td style="padding: 8px 0; color: #004657; font-weight: bold; font-size: 18px;">💰 R$ %s</td>
+                                <td style="padding: 8px 0; color: #004657; font-weight: bold; font-size: 18px;">💰 R$ {{totalAmountPaid}}</td>
                             </tr>
                             <tr>
                                 <td style="padding: 8px 0; color: #666; font-weight: bold;">Método:</td>
-                                <td style="padding: 8px 0; color: #004657;">%s</td>
+                                <td style="padding: 8px 0; color: #004657;">{{paymentMethod}}</td>
                             </tr>
                             <tr>
                                 <td style="padding: 8px 0; color: #666; font-weight: bold;">Aprovado em:</td>
-                                <td style="padding: 8px 0; color: #004657;">⏰ %s</td>
+                                <td style="padding: 8px 0; color: #004657;">⏰ {{paymentApprovedAt}}</td>
                             </tr>
                         </table>
                     </div>
@@ -130,7 +122,7 @@ public class PaymentConfirmationTemplate implements EmailTemplateStrategy {
                     <div style="background-color: #e7f3ff; padding: 20px; border-radius: 8px; margin: 20px 0;">
                         <h3 style="color: #004657; margin-top: 0;">🎫 PRÓXIMOS PASSOS</h3>
                         <ul style="color: #004657; padding-left: 20px;">
-                            <li style="margin: 8px 0;">Aguarde o envio dos vouchers por email</li>
+                            <li style="margin: 8px 0;">Seu voucher em PDF está anexado a este email</li>
                             <li style="margin: 8px 0;">Mantenha este email como comprovante</li>
                             <li style="margin: 8px 0;">Entre em contato conosco para dúvidas</li>
                         </ul>
@@ -139,7 +131,7 @@ public class PaymentConfirmationTemplate implements EmailTemplateStrategy {
                     <!-- Informações de contato -->
                     <div style="text-align: center; padding: 20px; background-color: #f7a700; border-radius: 8px; margin: 20px 0;">
                         <p style="margin: 0; color: #004657; font-weight: bold;">
-                            📞 SUPORTE: %s
+                            📞 SUPORTE: {{supportEmail}}
                         </p>
                     </div>
 
@@ -168,17 +160,43 @@ public class PaymentConfirmationTemplate implements EmailTemplateStrategy {
         </body>
         </html>
         """,
-                emailData.customerName(), // %s - Nome do cliente
-                emailData.reservationId(), // %s - ID da reserva
-                emailData.packageTitle(), // %s - Título do pacote
-                emailData.packageDestination(), // %s - Destino
-                emailData.tripStartDate(), // %s - Data de ida
-                emailData.tripEndDate(), // %s - Data de volta
-                emailData.totalTravelers(), // %s - Número de viajantes
-                emailData.totalAmountPaid(), // %s - Valor total pago
-                emailData.paymentMethod(), // %s - Método de pagamento
-                formattedDateTime, // %s - Data/hora da aprovação
-                emailProperties.getSupport() // %s - Suporte
+            "customerName",
+            "reservationId",
+            "packageTitle",
+            "packageDestination",
+            "tripStartDate",
+            "tripEndDate",
+            "totalTravelers",
+            "totalAmountPaid",
+            "paymentMethod",
+            "paymentApprovedAt",
+            "supportEmail");
+
+    private final EmailConfigProperties emailProperties;
+
+    @Override
+    public String buildSubject(Object data) {
+        EmailConfirmationDTO emailData = (EmailConfirmationDTO) data;
+        return "✈️ Orvian Travel - Pagamento Aprovado - Reserva #"
+                + emailData.reservationId().toString().substring(0, 8);
+    }
+
+    @Override
+    public String buildHtmlContent(Object data) {
+        EmailConfirmationDTO emailData = (EmailConfirmationDTO) data;
+
+        return HTML.render(
+                emailData.customerName(),
+                emailData.reservationId(),
+                emailData.packageTitle(),
+                emailData.packageDestination(),
+                emailData.tripStartDate(),
+                emailData.tripEndDate(),
+                emailData.totalTravelers(),
+                emailData.totalAmountPaid(),
+                emailData.paymentMethod(),
+                formatDateTimeForBrazilian(emailData.paymentApprovedAt()),
+                emailProperties.getSupport()
         );
     }
 
@@ -187,29 +205,12 @@ public class PaymentConfirmationTemplate implements EmailTemplateStrategy {
         return "PAYMENT_CONFIRMATION";
     }
 
-    private String formatDateTimeForBrazilian(LocalDateTime dateTime) {
+    private static String formatDateTimeForBrazilian(LocalDateTime dateTime) {
         if (dateTime == null) {
             return "Data não informada";
         }
-
-        try {
-            ZoneId brasiliaZone = ZoneId.of("America/Sao_Paulo");
-            ZoneId utcZone = ZoneId.of("UTC");
-
-            ZonedDateTime utcDateTime = dateTime.atZone(utcZone);
-            ZonedDateTime brasiliaDateTime = utcDateTime.withZoneSameInstant(brasiliaZone);
-
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(
-                    "dd/MM/yyyy 'às' HH:mm",
-                    Locale.forLanguageTag("pt-BR")
-            );
-
-            return brasiliaDateTime.format(formatter);
-
-        } catch (Exception e) {
-            log.warn("Failed to format datetime for Brazilian timezone: {}", e.getMessage());
-            DateTimeFormatter fallbackFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-            return dateTime.format(fallbackFormatter) + " (UTC)";
-        }
+        return dateTime.atZone(ZoneOffset.UTC)
+                .withZoneSameInstant(BRASILIA_ZONE)
+                .format(BRAZILIAN_DATE_TIME);
     }
 }
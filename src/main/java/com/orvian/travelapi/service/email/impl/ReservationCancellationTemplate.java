@@ -0,0 +1,121 @@
+package com.orvian.travelapi.service.email.impl;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.stereotype.Component;
+
+import com.orvian.travelapi.config.EmailConfigProperties;
+import com.orvian.travelapi.controller.dto.email.ReservationCancellationEmailDTO;
+import com.orvian.travelapi.service.email.CompiledTemplate;
+import com.orvian.travelapi.service.email.EmailTemplateStrategy;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationCancellationTemplate implements EmailTemplateStrategy {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private static final CompiledTemplate HTML = CompiledTemplate.compile("""
+            <!DOCTYPE html>
+            <html lang="pt-BR">
+            <head>
+                <meta charset="UTF-8">
+                <meta name="viewport" content="width=device-width, initial-scale=1.0">
+                <title>Reserva Cancelada - Orvian Travel</title>
+            </head>
+            <body style="margin: 0; padding: 0; font-family: Arial, sans-serif; background-color: #f4f4f4;">
+                <div style="max-width: 600px; margin: 0 auto; background-color: white; box-shadow: 0 0 10px rgba(0,0,0,0.1);">
+                    <div style="background: linear-gradient(135deg, #004657 0%, #005a6b 100%); color: white; padding: 30px 20px; text-align: center;">
+                        <h1 style="margin: 0; font-size: 28px; font-weight: bold;">✈️ ORVIAN TRAVEL</h1>
+                        <div style="background-color: #f7a700; color: #004657; display: inline-block; padding: 8px 16px; border-radius: 20px; margin-top: 15px; font-weight: bold;">
+                            SAÍDA CANCELADA
+                        </div>
+                    </div>
+                    <div style="padding: 30px 20px;">
+                        <h2 style="color: #004657; margin-top: 0;">Olá {{customerName}},</h2>
+                        <p style="color: #004657;">
+                            Infelizmente a saída do pacote abaixo foi cancelada e a sua reserva foi cancelada junto com ela.
+                        </p>
+                        <div style="background-color: #f9f9f9; padding: 20px; border-radius: 8px; margin: 20px 0;">
+                            <table style="width: 100%; border-collapse: collapse;">
+                                <tr>
+                                    <td style="padding: 8px 0; color: #666; font-weight: bold;">Reserva ID:</td>
+                                    <td style="padding: 8px 0; color: #004657;">{{reservationId}}</td>
+                                </tr>
+                                <tr>
+                                    <td style="padding: 8px 0; color: #666; font-weight: bold;">Pacote:</td>
+                                    <td style="padding: 8px 0; color: #004657; font-weight: bold;">{{packageTitle}}</td>
+                                </tr>
+                                <tr>
+                                    <td style="padding: 8px 0; color: #666; font-weight: bold;">Destino:</td>
+                                    <td style="padding: 8px 0; color: #004657;">🌍 {{packageDestination}}</td>
+                                </tr>
+                                <tr>
+                                    <td style="padding: 8px 0; color: #666; font-weight: bold;">Período:</td>
+                                    <td style="padding: 8px 0; color: #004657;">📅 {{tripStartDate}} a {{tripEndDate}}</td>
+                                </tr>
+                            </table>
+                        </div>
+                        <div style="background-color: #e7f3ff; padding: 20px; border-radius: 8px; margin: 20px 0;">
+                            <p style="margin: 0; color: #004657;">
+                                Nossa equipe entrará em contato para tratar do reembolso ou da remarcação da viagem.
+                            </p>
+                        </div>
+                        <div style="text-align: center; padding: 20px; background-color: #f7a700; border-radius: 8px; margin: 20px 0;">
+                            <p style="margin: 0; color: #004657; font-weight: bold;">📞 SUPORTE: {{supportEmail}}</p>
+                        </div>
+                    </div>
+                    <div style="background-color: #004657; color: white; text-align: center; padding: 20px;">
+                        <p style="margin: 0; font-size: 14px;">© 2024 Orvian Travel - Todos os direitos reservados</p>
+                        <p style="margin: 5px 0 0 0; font-size: 12px; opacity: 0.8;">
+                            Este é um email automático, não responda esta mensagem.
+                        </p>
+                    </div>
+                </div>
+            </body>
+            </html>
+            """,
+            "customerName",
+            "reservationId",
+            "packageTitle",
+            "packageDestination",
+            "tripStartDate",
+            "tripEndDate",
+            "supportEmail");
+
+    private final EmailConfigProperties emailProperties;
+
+    @Override
+    public String buildSubject(Object data) {
+        ReservationCancellationEmailDTO emailData = (ReservationCancellationEmailDTO) data;
+        return "Orvian Travel - Reserva Cancelada - Reserva #"
+                + emailData.reservationId().toString().substring(0, 8);
+    }
+
+    @Override
+    public String buildHtmlContent(Object data) {
+        ReservationCancellationEmailDTO emailData = (ReservationCancellationEmailDTO) data;
+
+        return HTML.render(
+                emailData.customerName(),
+                emailData.reservationId(),
+                emailData.packageTitle(),
+                emailData.packageDestination(),
+                formatDate(emailData.tripStartDate()),
+                formatDate(emailData.tripEndDate()),
+                emailProperties.getSupport()
+        );
+    }
+
+    @Override
+    public String getTemplateType() {
+        return "RESERVATION_CANCELLATION";
+    }
+
+    private static String formatDate(LocalDate date) {
+        return date != null ? DATE_FORMATTER.format(date) : "-";
+    }
+}
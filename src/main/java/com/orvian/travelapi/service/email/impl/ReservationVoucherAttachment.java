@@ -0,0 +1,45 @@
+package com.orvian.travelapi.service.email.impl;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orvian.travelapi.controller.dto.email.EmailConfirmationDTO;
+import com.orvian.travelapi.service.email.EmailAttachment;
+import com.orvian.travelapi.service.email.EmailAttachmentStrategy;
+import com.orvian.travelapi.service.pdf.VoucherPdfRenderer;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationVoucherAttachment implements EmailAttachmentStrategy {
+
+    private final ObjectMapper objectMapper;
+    private final VoucherPdfRenderer voucherRenderer;
+
+    @Override
+    public String toPayload(Object data) {
+        try {
+            return objectMapper.writeValueAsString((EmailConfirmationDTO) data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize voucher data", e);
+        }
+    }
+
+    @Override
+    public EmailAttachment render(String payload) {
+        EmailConfirmationDTO data;
+        try {
+            data = objectMapper.readValue(payload, EmailConfirmationDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid voucher data in outbox", e);
+        }
+        return new EmailAttachment(voucherRenderer.fileName(data), "application/pdf", voucherRenderer.render(data));
+    }
+
+    @Override
+    public String getAttachmentType() {
+        return "RESERVATION_VOUCHER";
+    }
+}
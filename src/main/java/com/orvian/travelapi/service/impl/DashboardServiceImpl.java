@@ -0,0 +1,130 @@
+package com.orvian.travelapi.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.orvian.travelapi.controller.dto.admin.DashboardDTO;
+import com.orvian.travelapi.controller.dto.admin.WeekRatingDTO;
+import com.orvian.travelapi.controller.dto.travelpackage.PaymentByPackageDTO;
+import com.orvian.travelapi.domain.repository.RatingRepository;
+import com.orvian.travelapi.domain.repository.TravelPackageRepository;
+import com.orvian.travelapi.domain.repository.UserRepository;
+import com.orvian.travelapi.service.DashboardService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantém em memória o snapshot do dashboard semanal. O snapshot é recalculado
+ * periodicamente (orvian.dashboard.refresh-interval-ms) executando as quatro
+ * consultas em paralelo, e as requisições apenas leem o último valor.
+ * Atualizações pedidas enquanto outra está em andamento reaproveitam o
+ * resultado dela em vez de repetir as consultas.
+ */
+@Service
+@Slf4j
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final int QUERY_COUNT = 4;
+
+    private final TravelPackageRepository packageRepository;
+    private final UserRepository userRepository;
+    private final RatingRepository ratingRepository;
+    private final ExecutorService queryExecutor;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile DashboardDTO weekSnapshot;
+    private volatile long refreshCount;
+
+    public DashboardServiceImpl(TravelPackageRepository packageRepository,
+            UserRepository userRepository,
+            RatingRepository ratingRepository) {
+        this.packageRepository = packageRepository;
+        this.userRepository = userRepository;
+        this.ratingRepository = ratingRepository;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.queryExecutor = Executors.newFixedThreadPool(QUERY_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-query-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public DashboardDTO getWeekSnapshot() {
+        DashboardDTO snapshot = weekSnapshot;
+        return snapshot != null ? snapshot : refreshWeekSnapshot();
+    }
+
+    /**
+     * Quem chega enquanto uma atualização está em andamento espera no lock e,
+     * se ela terminar com sucesso nesse meio tempo, recebe o snapshot que ela
+     * gerou: ele é no mínimo tão recente quanto o pedido. Sem isso, N cliques
+     * em "atualizar" (ou N requisições com o cache frio) executariam as
+     * consultas N vezes em sequência.
+     */
+    @Override
+    public DashboardDTO refreshWeekSnapshot() {
+        long requestedAfter = refreshCount;
+        refreshLock.lock();
+        try {
+            if (refreshCount != requestedAfter) {
+                log.debug("Dashboard refresh coalesced with the one that just finished");
+                return weekSnapshot;
+            }
+
+            long start = System.currentTimeMillis();
+
+            CompletableFuture<Integer> newUsers = CompletableFuture.supplyAsync(userRepository::newUserThisWeek, queryExecutor);
+            CompletableFuture<Integer> newPackages = CompletableFuture.supplyAsync(packageRepository::newPackageThisWeek, queryExecutor);
+            CompletableFuture<WeekRatingDTO> weekRating = CompletableFuture.supplyAsync(ratingRepository::ratingAVGThisWeek, queryExecutor);
+            CompletableFuture<List<PaymentByPackageDTO>> salesByPackage = CompletableFuture.supplyAsync(packageRepository::sumTotalByPackage, queryExecutor);
+
+            DashboardDTO snapshot = new DashboardDTO(
+                    newUsers.join(),
+                    newPackages.join(),
+                    weekRating.join(),
+                    salesByPackage.join(),
+                    LocalDateTime.now(ZoneOffset.UTC)
+            );
+            weekSnapshot = snapshot;
+            refreshCount++;
+
+            log.info("Dashboard snapshot refreshed in {} ms", System.currentTimeMillis() - start);
+            return snapshot;
+        } catch (CompletionException e) {
+            log.error("Error refreshing dashboard snapshot: {}", e.getCause().getMessage(), e.getCause());
+            throw new RuntimeException("Erro ao atualizar dashboard: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${orvian.dashboard.refresh-interval-ms:60000}",
+            initialDelayString = "${orvian.dashboard.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        // Mantém o snapshot anterior se a atualização falhar
+        try {
+            refreshWeekSnapshot();
+        } catch (RuntimeException e) {
+            log.warn("Scheduled dashboard refresh failed, keeping snapshot from {}",
+                    weekSnapshot != null ? weekSnapshot.generatedAt() : null);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queryExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,373 @@
+package com.orvian.travelapi.service.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orvian.travelapi.config.ExportProperties;
+import com.orvian.travelapi.controller.dto.export.ExportJobDTO;
+import com.orvian.travelapi.domain.enums.ExportFormat;
+import com.orvian.travelapi.domain.enums.ExportJobStatus;
+import com.orvian.travelapi.domain.model.ExportJob;
+import com.orvian.travelapi.domain.repository.ExportJobRepository;
+import com.orvian.travelapi.domain.repository.ReservationRepository;
+import com.orvian.travelapi.service.ExportJobService;
+import com.orvian.travelapi.service.ReservationService;
+import com.orvian.travelapi.service.exception.BusinessException;
+import com.orvian.travelapi.service.exception.NotFoundException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exportações de reservas executadas fora da thread da requisição.
+ *
+ * Os jobs rodam em um pool limitado (orvian.export.max-concurrent-jobs) com
+ * fila também limitada, para que exportações não disputem threads com o
+ * restante da API. O status e o arquivo gerado ficam no banco
+ * (TB_EXPORT_JOBS / TB_EXPORT_JOB_FILES), de modo que qualquer instância
+ * responde à consulta e ao download, sem depender de roteamento fixo. Um job
+ * é reaproveitado por novas solicitações do mesmo formato enquanto o
+ * fingerprint dos dados não mudar e o resultado não expirar; a busca e a
+ * criação rodam sob um lock de aplicação do SQL Server na chave, então
+ * solicitações simultâneas (inclusive em instâncias diferentes) resultam em
+ * um único job.
+ *
+ * O arquivo é gerado em um subdiretório do spool exclusivo desta instância e
+ * copiado para o banco em streaming; jobs de uma instância que caiu no meio
+ * da geração são marcados como falhos após orvian.export.processing-timeout.
+ */
+@Service
+@Slf4j
+public class ExportJobServiceImpl implements ExportJobService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+    private static final Set<ExportJobStatus> ACTIVE = Set.of(ExportJobStatus.PENDENTE, ExportJobStatus.PROCESSANDO);
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int KEY_LOCK_TIMEOUT_MS = 10_000;
+    private static final String INSTANCE_DIR_PREFIX = "instance-";
+
+    /**
+     * Lock exclusivo na chave do job, liberado no fim da transação. Retorna um
+     * valor negativo se não obteve o lock dentro do timeout.
+     */
+    private static final String LOCK_JOB_KEY = """
+        DECLARE @result INT;
+        EXEC @result = sp_getapplock @Resource = ?, @LockMode = 'Exclusive',
+            @LockOwner = 'Transaction', @LockTimeout = ?;
+        SELECT @result
+        """;
+
+    private static final String INSERT_RESULT = "INSERT INTO TB_EXPORT_JOB_FILES (JOB_ID, CONTENT) VALUES (?, ?)";
+    private static final String SELECT_RESULT = "SELECT CONTENT FROM TB_EXPORT_JOB_FILES WHERE JOB_ID = ?";
+
+    private final ReservationService reservationService;
+    private final ReservationRepository reservationRepository;
+    private final ExportJobRepository exportJobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExportProperties properties;
+    private final Path spoolDir;
+    private final ThreadPoolExecutor executor;
+
+    public ExportJobServiceImpl(ReservationService reservationService,
+            ReservationRepository reservationRepository,
+            ExportJobRepository exportJobRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ExportProperties properties) {
+        this.reservationService = reservationService;
+        this.reservationRepository = reservationRepository;
+        this.exportJobRepository = exportJobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.spoolDir = prepareSpoolDir(Path.of(properties.getSpoolDir()), properties.getProcessingTimeout());
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getMaxConcurrentJobs(),
+                properties.getMaxConcurrentJobs(),
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "export-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public ExportJobDTO submit(ExportFormat format) {
+        if (!reservationService.hasReservationsToExport()) {
+            log.warn("No reservation data found for {} export", format);
+            return null;
+        }
+
+        String key = format + ":" + reservationRepository.exportFingerprint();
+        AtomicBoolean created = new AtomicBoolean();
+
+        ExportJob job = transactionTemplate.execute(status -> {
+            lockJobKey(key);
+            LocalDateTime now = now();
+            List<ExportJob> reusable = exportJobRepository.findReusable(key,
+                    ExportJobStatus.CONCLUIDO, now.minus(properties.getResultTtl()),
+                    ACTIVE, now.minus(properties.getProcessingTimeout()),
+                    PageRequest.of(0, 1));
+            if (!reusable.isEmpty()) {
+                return reusable.get(0);
+            }
+
+            ExportJob newJob = new ExportJob();
+            newJob.setFormat(format);
+            newJob.setJobKey(key);
+            newJob.setFileName(format.fileName(LocalDateTime.now().format(FILE_TIMESTAMP)));
+            created.set(true);
+            return exportJobRepository.save(newJob);
+        });
+
+        if (!created.get()) {
+            log.info("Reusing export job {} ({}) with status {}", job.getId(), format, job.getStatus());
+            return toDTO(job);
+        }
+
+        // Só após o commit: o worker precisa enxergar o job para reservá-lo
+        try {
+            executor.execute(() -> run(job.getId(), format));
+            log.info("Export job {} ({}) queued", job.getId(), format);
+        } catch (RejectedExecutionException e) {
+            fail(job.getId(), "Export queue is full");
+            log.warn("Export job {} rejected: queue is full", job.getId());
+            throw new BusinessException("Too many exports in progress, try again later");
+        }
+
+        return toDTO(job);
+    }
+
+    @Override
+    public ExportJobDTO findById(UUID id) {
+        return toDTO(getJob(id));
+    }
+
+    @Override
+    public ExportJobDTO findCompletedById(UUID id) {
+        ExportJob job = getJob(id);
+        if (job.getStatus() != ExportJobStatus.CONCLUIDO) {
+            throw new BusinessException("Export job " + id + " has no file available (status: " + job.getStatus() + ")");
+        }
+        return toDTO(job);
+    }
+
+    /**
+     * Lê o VARBINARY(MAX) pelo stream do driver, sem carregar o arquivo em
+     * memória.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void writeResult(UUID id, OutputStream out) {
+        AtomicBoolean found = new AtomicBoolean();
+        jdbcTemplate.query(SELECT_RESULT, (RowCallbackHandler) rs -> {
+            found.set(true);
+            try (InputStream in = rs.getBinaryStream(1)) {
+                in.transferTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, id.toString());
+        if (!found.get()) {
+            throw new NotFoundException("Export file not found for job: " + id);
+        }
+    }
+
+    /**
+     * Serializa a busca por job reaproveitável e a criação do novo job para a
+     * mesma chave; sem isso, duas solicitações simultâneas não encontram
+     * nada e geram o mesmo arquivo duas vezes.
+     */
+    private void lockJobKey(String key) {
+        Integer result = jdbcTemplate.queryForObject(LOCK_JOB_KEY, Integer.class,
+                "export-job:" + key, KEY_LOCK_TIMEOUT_MS);
+        if (result == null || result < 0) {
+            throw new BusinessException("Another export with the same data is being prepared, try again later");
+        }
+    }
+
+    private ExportJob getJob(UUID id) {
+        return exportJobRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Export job not found with ID: " + id));
+    }
+
+    private void run(UUID jobId, ExportFormat format) {
+        Integer claimed = transactionTemplate.execute(status -> exportJobRepository.transition(jobId,
+                ExportJobStatus.PENDENTE, ExportJobStatus.PROCESSANDO, now()));
+        if (claimed == null || claimed == 0) {
+            log.warn("Export job {} is no longer pending, skipping", jobId);
+            return;
+        }
+
+        long start = System.nanoTime();
+        Path tempFile = spoolDir.resolve(jobId + ".tmp");
+        try {
+            Files.createDirectories(spoolDir);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                if (format == ExportFormat.XLSX) {
+                    reservationService.exportReservationsToExcel(out);
+                } else {
+                    reservationService.exportReservationsToPdf(out);
+                }
+            }
+
+            long sizeBytes = Files.size(tempFile);
+            transactionTemplate.executeWithoutResult(status -> {
+                storeResult(jobId, tempFile, sizeBytes);
+                if (exportJobRepository.complete(jobId, sizeBytes, now(),
+                        ExportJobStatus.PROCESSANDO, ExportJobStatus.CONCLUIDO) == 0) {
+                    // Marcado como abandonado enquanto gerava: descarta o arquivo
+                    throw new IllegalStateException("Export job " + jobId + " expired while processing");
+                }
+            });
+            log.info("Export job {} finished in {} ms ({} bytes)", jobId,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), sizeBytes);
+        } catch (Exception e) {
+            log.error("Export job {} failed: {}", jobId, e.getMessage(), e);
+            fail(jobId, e.getMessage());
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private void storeResult(UUID jobId, Path file, long sizeBytes) {
+        try (InputStream in = Files.newInputStream(file)) {
+            jdbcTemplate.update(INSERT_RESULT, ps -> {
+                ps.setString(1, jobId.toString());
+                ps.setBinaryStream(2, in, sizeBytes);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void fail(UUID jobId, String error) {
+        String message = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        transactionTemplate.executeWithoutResult(status -> exportJobRepository.fail(jobId, message, now(),
+                ACTIVE, ExportJobStatus.FALHOU));
+    }
+
+    /**
+     * Marca como falhos os jobs abandonados e remove os finalizados há mais
+     * tempo que o TTL, junto com seus arquivos. Pode rodar em todas as
+     * instâncias ao mesmo tempo.
+     */
+    @Scheduled(fixedDelayString = "${orvian.export.cleanup-interval-ms:300000}")
+    public void removeExpiredJobs() {
+        LocalDateTime now = now();
+        LocalDateTime limit = now.minus(properties.getResultTtl());
+        transactionTemplate.executeWithoutResult(status -> {
+            int abandoned = exportJobRepository.failStale(now.minus(properties.getProcessingTimeout()),
+                    "Export job abandoned by its worker", now, ACTIVE, ExportJobStatus.FALHOU);
+            exportJobRepository.deleteFilesFinishedBefore(limit);
+            int removed = exportJobRepository.deleteFinishedBefore(limit);
+            if (abandoned > 0 || removed > 0) {
+                log.info("Export cleanup: {} abandoned job(s) failed, {} expired job(s) removed", abandoned, removed);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        deleteDirectoryQuietly(spoolDir);
+    }
+
+    private static ExportJobDTO toDTO(ExportJob job) {
+        return new ExportJobDTO(job.getId(), job.getFormat(), job.getStatus(), job.getFileName(), job.getSizeBytes(),
+                job.getError(), job.getCreatedAt(), job.getFinishedAt());
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+
+    /**
+     * Cria o subdiretório de spool desta instância. O diretório configurado
+     * pode ser compartilhado por várias instâncias (mesmo host ou volume
+     * montado), então arquivos dos outros subdiretórios só são removidos
+     * quando não são alterados há mais que o processing-timeout: a essa
+     * altura o job deles já foi marcado como falho, e o arquivo é sobra de
+     * uma instância que caiu.
+     */
+    private static Path prepareSpoolDir(Path root, Duration processingTimeout) {
+        Path dir = root.resolve(INSTANCE_DIR_PREFIX + UUID.randomUUID());
+        try {
+            Files.createDirectories(dir);
+            FileTime staleBefore = FileTime.from(Instant.now().minus(processingTimeout));
+            try (DirectoryStream<Path> instances = Files.newDirectoryStream(root, INSTANCE_DIR_PREFIX + "*")) {
+                for (Path instance : instances) {
+                    if (!instance.equals(dir) && Files.isDirectory(instance)) {
+                        deleteStaleFiles(instance, staleBefore);
+                    }
+                }
+            }
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prepare export spool directory " + dir, e);
+        }
+    }
+
+    private static void deleteStaleFiles(Path dir, FileTime staleBefore) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.{tmp,xlsx,pdf}")) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).compareTo(staleBefore) < 0) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+    }
+
+    private static void deleteDirectoryQuietly(Path dir) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        } catch (IOException e) {
+            log.warn("Could not clean export spool directory {}: {}", dir, e.getMessage());
+        }
+        deleteQuietly(dir);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -1,19 +1,34 @@
 package com.orvian.travelapi.service.impl;
 
+import com.orvian.travelapi.controller.dto.media.MediaMetadataDTO;
 import com.orvian.travelapi.domain.model.Media;
+import com.orvian.travelapi.domain.repository.MediaContentRepository;
 import com.orvian.travelapi.domain.repository.MediaRepository;
 import com.orvian.travelapi.service.MediaService;
+import com.orvian.travelapi.service.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @RequiredArgsConstructor
 public class MediaServiceImpl implements MediaService {
 
+    private static final String CONTENT_QUERY = "SELECT CONTENT FROM TB_MEDIA_CONTENTS WHERE MEDIA_ID = ?";
+
     private final MediaRepository mediaRepository;
+    private final MediaContentRepository mediaContentRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Object findAll() {
@@ -25,6 +40,38 @@ public class MediaServiceImpl implements MediaService {
         return mediaRepository.findById(id);
     }
 
+    @Override
+    public Optional<MediaMetadataDTO> findMetadataById(UUID id) {
+        return mediaRepository.findMetadataById(id);
+    }
+
+    @Override
+    public Optional<Long> findContentLengthById(UUID id) {
+        return mediaContentRepository.findContentLengthById(id);
+    }
+
+    /**
+     * Lê a coluna VARBINARY(MAX) pelo stream do driver dentro de uma transação
+     * somente leitura: os bytes seguem para a resposta em blocos, em vez de
+     * passarem por um byte[] do tamanho da mídia.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void writeContent(UUID id, OutputStream out) {
+        AtomicBoolean found = new AtomicBoolean();
+        jdbcTemplate.query(CONTENT_QUERY, (RowCallbackHandler) rs -> {
+            found.set(true);
+            try (InputStream in = rs.getBinaryStream(1)) {
+                in.transferTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, id.toString());
+        if (!found.get()) {
+            throw new NotFoundException("Media not found with ID: " + id);
+        }
+    }
+
     @Override
     public Media create(Record media) {
         return null;
@@ -36,7 +83,9 @@ public class MediaServiceImpl implements MediaService {
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
+        mediaContentRepository.deleteByMediaId(id);
         mediaRepository.deleteById(id);
     }
 }
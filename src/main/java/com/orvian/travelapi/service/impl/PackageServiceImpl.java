@@ -1,43 +1,62 @@
 package com.orvian.travelapi.service.impl;
 
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import com.orvian.travelapi.controller.dto.media.MediaMetadataDTO;
+import com.orvian.travelapi.controller.dto.media.SearchMediaDTO;
 import com.orvian.travelapi.controller.dto.packagedate.UpdatePackageDateDTO;
+import com.orvian.travelapi.controller.dto.pagination.CursorPageDTO;
 import com.orvian.travelapi.controller.dto.travelpackage.CreateTravelPackageDTO;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageFacetedSearchDTO;
 import com.orvian.travelapi.controller.dto.travelpackage.PackageSearchResultDTO;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageSuggestionDTO;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageSummaryDTO;
 import com.orvian.travelapi.controller.dto.travelpackage.UpdateTravelPackageDTO;
 import com.orvian.travelapi.domain.enums.ReservationSituation;
 import com.orvian.travelapi.domain.model.Media;
+import com.orvian.travelapi.domain.model.MediaContent;
 import com.orvian.travelapi.domain.model.PackageDate;
 import com.orvian.travelapi.domain.model.TravelPackage;
+import com.orvian.travelapi.domain.repository.MediaContentRepository;
 import com.orvian.travelapi.domain.repository.MediaRepository;
 import com.orvian.travelapi.domain.repository.PackageDateRepository;
 import com.orvian.travelapi.domain.repository.ReservationRepository;
 import com.orvian.travelapi.domain.repository.TravelPackageRepository;
 import com.orvian.travelapi.mapper.TravelPackageMapper;
 import com.orvian.travelapi.service.TravelPackageService;
+import com.orvian.travelapi.service.cache.PackageCatalogCache;
 import com.orvian.travelapi.service.exception.BusinessException;
 import com.orvian.travelapi.service.exception.DuplicatedRegistryException;
 import com.orvian.travelapi.service.exception.NotFoundException;
+import com.orvian.travelapi.service.pagination.KeysetCursor;
+import com.orvian.travelapi.service.search.PackageFacetFilter;
+import com.orvian.travelapi.service.search.PackageFacetStore;
+import com.orvian.travelapi.service.search.PackageSearchIndex;
+import com.orvian.travelapi.specs.KeysetSpecs;
 import static com.orvian.travelapi.service.exception.PersistenceExceptionUtil.handlePersistenceError;
+import static com.orvian.travelapi.specs.TravelPackageSpecs.hasAvailableDeparture;
 import static com.orvian.travelapi.specs.TravelPackageSpecs.hasStartDateFrom;
 import static com.orvian.travelapi.specs.TravelPackageSpecs.maxPeopleGreaterThanOrEqual;
-import static com.orvian.travelapi.specs.TravelPackageSpecs.titleLike;
+import static com.orvian.travelapi.specs.TravelPackageSpecs.titleOrDestinationLike;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -53,31 +72,173 @@ public class PackageServiceImpl implements TravelPackageService {
     private final TravelPackageMapper travelPackageMapper;
     private final PackageDateRepository packageDateRepository;
     private final MediaRepository mediaRepository;
+    private final MediaContentRepository mediaContentRepository;
     private final ReservationRepository reservationRepository;
+    private final PackageCatalogCache catalogCache;
+    private final PackageSearchIndex searchIndex;
+    private final PackageFacetStore facetStore;
+
+    private static final int SEARCH_FILTER_BATCH_SIZE = 1000;
+    private static final int MAX_SUGGESTIONS = 20;
 
     @Override
     public Page<PackageSearchResultDTO> findAll(Integer pageNumber, Integer pageSize, String title) {
         try {
             log.info("Retrieving all travel packages with title: {}", title);
-            Specification<TravelPackage> spec = (title != null && !title.isBlank()) ? titleLike(title) : null;
+            PackageCatalogCache.PageKey key = PackageCatalogCache.pageKey(title, null, null, pageNumber, pageSize);
+
+            List<UUID> rankedIds = searchIndex.search(title);
+            if (rankedIds != null) {
+                return findRankedPage(key, rankedIds, null, null);
+            }
+
+            Specification<TravelPackage> spec = (title != null && !title.isBlank()) ? titleOrDestinationLike(title) : null;
+            return findPage(key, spec);
+        } catch (Exception e) {
+            log.error("Erro ao buscar pacotes: {}", e.getMessage(), e);
+            throw new RuntimeException("Erro ao buscar pacotes: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Page<PackageSearchResultDTO> findAvailable(Integer pageNumber, Integer pageSize, String title,
+            LocalDate from, LocalDate to, int seats) {
+        if (seats < 1) {
+            throw new BusinessException("Seats must be greater than zero");
+        }
+        if (to.isBefore(from)) {
+            throw new BusinessException("End date must not be before start date");
+        }
+
+        try {
+            log.info("Retrieving available travel packages - title: {}, from: {}, to: {}, seats: {}",
+                    title, from, to, seats);
+
             Pageable pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by("createdAt").descending());
 
-            return travelPackageRepository
-                    .findAll(spec, pageRequest)
-                    .map(pkg -> {
-                        List<PackageDate> dates = packageDateRepository.findByTravelPackage_Id(pkg.getId());
+            List<UUID> rankedIds = searchIndex.search(title);
+            if (rankedIds != null) {
+                Set<UUID> available = new HashSet<>();
+                for (int start = 0; start < rankedIds.size(); start += SEARCH_FILTER_BATCH_SIZE) {
+                    List<UUID> batch = rankedIds.subList(start, Math.min(start + SEARCH_FILTER_BATCH_SIZE, rankedIds.size()));
+                    available.addAll(travelPackageRepository.filterAvailableIds(batch, from, to, seats));
+                }
+                List<UUID> ids = rankedIds.stream().filter(available::contains).toList();
 
-                        Optional<Media> firstMedia = mediaRepository.findFirstByTravelPackage_IdOrderByCreatedAtAsc(pkg.getId());
-                        List<Media> mediaList = firstMedia.map(List::of).orElse(List.of());
+                Pageable rankedRequest = PageRequest.of(pageNumber, pageSize);
+                return new PageImpl<>(toSearchResults(findAllInOrder(pageSlice(ids, rankedRequest))),
+                        rankedRequest, ids.size());
+            }
 
-                        return travelPackageMapper.toDTOWithDatesAndFirstMedia(pkg, dates, mediaList);
-                    });
+            Specification<TravelPackage> spec = hasAvailableDeparture(from, to, seats);
+            if (title != null && !title.isBlank()) {
+                spec = spec.and(titleOrDestinationLike(title));
+            }
+            return toSearchResultPage(travelPackageRepository.findAll(spec, pageRequest));
         } catch (Exception e) {
-            log.error("Erro ao buscar pacotes: {}", e.getMessage(), e);
+            log.error("Erro ao buscar pacotes disponíveis: {}", e.getMessage(), e);
+            throw new RuntimeException("Erro ao buscar pacotes: " + e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<PackageSuggestionDTO> suggest(String query, int limit) {
+        return searchIndex.suggest(query, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+    }
+
+    @Override
+    public PackageFacetedSearchDTO<Page<PackageSearchResultDTO>> findAllFaceted(Integer pageNumber, Integer pageSize,
+            PackageFacetFilter filter) {
+        log.info("Retrieving travel packages with facets - filter: {}", filter);
+
+        PackageFacetStore.Result result = facetStore.search(filter);
+        Pageable pageRequest = PageRequest.of(pageNumber, pageSize);
+
+        Page<PackageSearchResultDTO> page = new PageImpl<>(
+                toSearchResults(findAllInOrder(pageSlice(result.ids(), pageRequest))),
+                pageRequest, result.ids().size());
+
+        return new PackageFacetedSearchDTO<>(page, result.facets());
+    }
+
+    @Override
+    public CursorPageDTO<PackageSearchResultDTO> findAllByCursor(String cursor, Integer pageSize, String title,
+            boolean withTotal) {
+        Specification<TravelPackage> filter = (title != null && !title.isBlank()) ? titleOrDestinationLike(title) : null;
+        Specification<TravelPackage> spec = KeysetSpecs.after(filter, KeysetCursor.decode(cursor));
+
+        try {
+            log.info("Retrieving travel packages by cursor with title: {}", title);
+
+            List<TravelPackage> rows = travelPackageRepository.findBy(spec, query -> query
+                    .sortBy(KeysetCursor.SORT)
+                    .limit(pageSize + 1)
+                    .all());
+            Long total = withTotal ? travelPackageRepository.count(KeysetSpecs.after(filter, null)) : null;
+
+            return KeysetCursor.toPage(rows, pageSize, TravelPackage::getCreatedAt, TravelPackage::getId,
+                    this::toSearchResults, total);
+        } catch (Exception e) {
+            log.error("Erro ao buscar pacotes por cursor: {}", e.getMessage(), e);
+            throw new RuntimeException("Erro ao buscar pacotes: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Page<PackageSummaryDTO> findAllSummaries(Integer pageNumber, Integer pageSize, String title) {
+        try {
+            log.info("Retrieving travel package summaries with title: {}", title);
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+            List<UUID> rankedIds = searchIndex.search(title);
+            if (rankedIds != null) {
+                Pageable pageRequest = PageRequest.of(pageNumber, pageSize);
+                List<UUID> pageIds = pageSlice(rankedIds, pageRequest);
+
+                Map<UUID, PackageSummaryDTO> summariesById = pageIds.isEmpty()
+                        ? Map.of()
+                        : travelPackageRepository.findSummariesByIdIn(pageIds, today).stream()
+                                .collect(Collectors.toMap(PackageSummaryDTO::id, Function.identity()));
+                List<PackageSummaryDTO> ordered = pageIds.stream()
+                        .map(summariesById::get)
+                        .filter(Objects::nonNull)
+                        .toList();
+
+                return new PageImpl<>(withThumbnails(ordered), pageRequest, rankedIds.size());
+            }
+
+            String titleFilter = (title != null && !title.isBlank()) ? title : null;
+            Page<PackageSummaryDTO> page = travelPackageRepository.findSummaries(titleFilter, today,
+                    PageRequest.of(pageNumber, pageSize));
+            return new PageImpl<>(withThumbnails(page.getContent()), page.getPageable(), page.getTotalElements());
+        } catch (Exception e) {
+            log.error("Erro ao buscar resumo de pacotes: {}", e.getMessage(), e);
             throw new RuntimeException("Erro ao buscar pacotes: " + e.getMessage());
         }
     }
 
+    /**
+     * Preenche a miniatura com o endereço da primeira mídia de cada pacote,
+     * com uma única consulta para a página inteira.
+     */
+    private List<PackageSummaryDTO> withThumbnails(List<PackageSummaryDTO> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        List<UUID> packageIds = summaries.stream().map(PackageSummaryDTO::id).toList();
+        Map<UUID, UUID> firstMediaByPackage = mediaRepository.findFirstMetadataByTravelPackageIdIn(packageIds).stream()
+                .collect(Collectors.toMap(MediaMetadataDTO::travelPackageId, MediaMetadataDTO::id, (first, tie) -> first));
+
+        return summaries.stream()
+                .map(summary -> {
+                    UUID mediaId = firstMediaByPackage.get(summary.id());
+                    return mediaId == null ? summary : summary.withThumbnailUrl(SearchMediaDTO.MEDIA_PATH + mediaId);
+                })
+                .toList();
+    }
+
     @Override
     public Page<PackageSearchResultDTO> findAllBySearch(Integer pageNumber, Integer pageSize, String title,
             LocalDate startDate, Integer maxPeople) {
@@ -85,10 +246,18 @@ public class PackageServiceImpl implements TravelPackageService {
             log.info("Retrieving travel packages with filters - title: {}, startDate: {}, maxPeople: {}",
                     title, startDate, maxPeople);
 
+            PackageCatalogCache.PageKey key = PackageCatalogCache.pageKey(title, startDate, maxPeople, pageNumber, pageSize);
+
+            List<UUID> rankedIds = searchIndex.search(title);
+            if (rankedIds != null) {
+                return findRankedPage(key, rankedIds, startDate, maxPeople);
+            }
+
+            // Índice ainda não carregado ou busca sem texto: filtros direto no banco
             Specification<TravelPackage> spec = (root, query, cb) -> cb.conjunction();
 
             if (title != null && !title.isBlank()) {
-                spec = spec.and(titleLike(title));
+                spec = spec.and(titleOrDestinationLike(title));
             }
             if (startDate != null) {
                 spec = spec.and(hasStartDateFrom(startDate));
@@ -97,18 +266,7 @@ public class PackageServiceImpl implements TravelPackageService {
                 spec = spec.and(maxPeopleGreaterThanOrEqual(maxPeople));
             }
 
-            Pageable pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by("createdAt").descending());
-
-            return travelPackageRepository
-                    .findAll(spec, pageRequest)
-                    .map(pkg -> {
-                        List<PackageDate> dates = packageDateRepository.findByTravelPackage_Id(pkg.getId());
-
-                        Optional<Media> firstMedia = mediaRepository.findFirstByTravelPackage_IdOrderByCreatedAtAsc(pkg.getId());
-                        List<Media> mediaList = firstMedia.map(List::of).orElse(List.of());
-
-                        return travelPackageMapper.toDTOWithDatesAndFirstMedia(pkg, dates, mediaList);
-                    });
+            return findPage(key, spec);
 
         } catch (Exception e) {
             log.error("Erro ao buscar pacotes: {}", e.getMessage(), e);
@@ -145,9 +303,18 @@ public class PackageServiceImpl implements TravelPackageService {
                 );
 
                 mediaRepository.saveAll(medias);
+
+                List<MediaContent> contents = new ArrayList<>(medias.size());
+                for (int i = 0; i < medias.size(); i++) {
+                    contents.add(travelPackageMapper.toMediaContent(medias.get(i), dtoTravelPackage.medias().get(i)));
+                }
+                mediaContentRepository.saveAll(contents);
                 log.info("Created {} medias for travel package: {}", medias.size(), savedPackage.getId());
             }
 
+            catalogCache.evict(savedPackage.getId());
+            searchIndex.index(savedPackage);
+            facetStore.markStale();
             return savedPackage;
 
         } catch (IllegalArgumentException e) {
@@ -161,15 +328,23 @@ public class PackageServiceImpl implements TravelPackageService {
 
     @Override
     public PackageSearchResultDTO findById(UUID id) {
+        PackageSearchResultDTO cached = catalogCache.getDetail(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = catalogCache.generation();
         TravelPackage travelPackage = travelPackageRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Travel package with ID " + id + " not found."));
         log.info("Travel package found with ID: {}", id);
 
         List<PackageDate> dates = packageDateRepository.findByTravelPackage_Id(travelPackage.getId());
 
-        List<Media> medias = mediaRepository.findByTravelPackage_IdOrderByCreatedAtAsc(travelPackage.getId());
+        List<MediaMetadataDTO> medias = mediaRepository.findMetadataByTravelPackageId(travelPackage.getId());
 
-        return travelPackageMapper.toDTOWithDatesAndMedias(travelPackage, dates, medias);
+        PackageSearchResultDTO result = travelPackageMapper.toDTOWithDatesAndMedias(travelPackage, dates, medias);
+        catalogCache.putDetail(result, generation);
+        return result;
     }
 
     @Override
@@ -196,6 +371,9 @@ public class PackageServiceImpl implements TravelPackageService {
                 updatePackageDatesWithSmartValidation(travelPackage, updateDto.packageDates());
             }
 
+            catalogCache.evict(travelPackage.getId());
+            searchIndex.index(travelPackage);
+            facetStore.markStale();
             log.info("Package with ID: {} updated successfully", travelPackage.getId());
         } catch (IllegalArgumentException e) {
             log.error("Invalid argument provided for payment update: {}", e.getMessage());
@@ -219,7 +397,12 @@ public class PackageServiceImpl implements TravelPackageService {
 
             // Verificar se há reservas associadas (regra de negócio)
             validatePackageDeletion(travelPackage);
+            mediaContentRepository.deleteByTravelPackageId(id);
+            mediaRepository.deleteByTravelPackageId(id);
             travelPackageRepository.deleteById(id);
+            catalogCache.evict(id);
+            searchIndex.remove(id);
+            facetStore.markStale();
             log.info("Travel package with ID: {} deleted successfully", id);
 
         } catch (NotFoundException e) {
@@ -231,6 +414,113 @@ public class PackageServiceImpl implements TravelPackageService {
         }
     }
 
+    private Page<PackageSearchResultDTO> findPage(PackageCatalogCache.PageKey key, Specification<TravelPackage> spec) {
+        Pageable pageRequest = PageRequest.of(key.pageNumber(), key.pageSize(), Sort.by("createdAt").descending());
+
+        Page<PackageSearchResultDTO> cached = catalogCache.getPage(key, pageRequest);
+        if (cached != null) {
+            log.debug("Catalog page served from cache: {}", key);
+            return cached;
+        }
+
+        long generation = catalogCache.generation();
+        Page<PackageSearchResultDTO> page = toSearchResultPage(travelPackageRepository.findAll(spec, pageRequest));
+        catalogCache.putPage(key, page, generation);
+        return page;
+    }
+
+    /**
+     * Página de uma busca textual resolvida pelo índice: os IDs já vêm
+     * ordenados por relevância, os filtros de data e capacidade são aplicados
+     * por chave primária e apenas os pacotes da página são carregados.
+     */
+    private Page<PackageSearchResultDTO> findRankedPage(PackageCatalogCache.PageKey key, List<UUID> rankedIds,
+            LocalDate startDate, Integer maxPeople) {
+        Pageable pageRequest = PageRequest.of(key.pageNumber(), key.pageSize());
+
+        Page<PackageSearchResultDTO> cached = catalogCache.getPage(key, pageRequest);
+        if (cached != null) {
+            log.debug("Catalog page served from cache: {}", key);
+            return cached;
+        }
+
+        long generation = catalogCache.generation();
+        List<UUID> ids = (startDate == null && maxPeople == null)
+                ? rankedIds
+                : filterRankedIds(rankedIds, startDate, maxPeople);
+
+        List<TravelPackage> packages = findAllInOrder(pageSlice(ids, pageRequest));
+
+        Page<PackageSearchResultDTO> page = new PageImpl<>(toSearchResults(packages), pageRequest, ids.size());
+        catalogCache.putPage(key, page, generation);
+        return page;
+    }
+
+    private static List<UUID> pageSlice(List<UUID> ids, Pageable pageRequest) {
+        int from = (int) Math.min(pageRequest.getOffset(), ids.size());
+        int to = Math.min(from + pageRequest.getPageSize(), ids.size());
+        return ids.subList(from, to);
+    }
+
+    /**
+     * Carrega os pacotes pelos IDs mantendo a ordem recebida.
+     */
+    private List<TravelPackage> findAllInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, TravelPackage> packagesById = travelPackageRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(TravelPackage::getId, Function.identity()));
+        return ids.stream()
+                .map(packagesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<UUID> filterRankedIds(List<UUID> rankedIds, LocalDate startDate, Integer maxPeople) {
+        Set<UUID> allowed = new HashSet<>();
+        // Lotes abaixo do limite de 2100 parâmetros do SQL Server
+        for (int start = 0; start < rankedIds.size(); start += SEARCH_FILTER_BATCH_SIZE) {
+            List<UUID> batch = rankedIds.subList(start, Math.min(start + SEARCH_FILTER_BATCH_SIZE, rankedIds.size()));
+            allowed.addAll(travelPackageRepository.filterIds(batch, startDate, maxPeople));
+        }
+        return rankedIds.stream().filter(allowed::contains).toList();
+    }
+
+    /**
+     * Monta a página de resultados carregando datas e primeira mídia de todos
+     * os pacotes da página de uma só vez (2 consultas fixas, independente do
+     * tamanho da página).
+     */
+    private Page<PackageSearchResultDTO> toSearchResultPage(Page<TravelPackage> packages) {
+        return new PageImpl<>(toSearchResults(packages.getContent()), packages.getPageable(), packages.getTotalElements());
+    }
+
+    private List<PackageSearchResultDTO> toSearchResults(List<TravelPackage> packages) {
+        if (packages.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> packageIds = packages.stream().map(TravelPackage::getId).toList();
+
+        Map<UUID, List<PackageDate>> datesByPackage = packageDateRepository.findByTravelPackage_IdIn(packageIds).stream()
+                .collect(Collectors.groupingBy(date -> date.getTravelPackage().getId()));
+
+        Map<UUID, MediaMetadataDTO> firstMediaByPackage = mediaRepository.findFirstMetadataByTravelPackageIdIn(packageIds).stream()
+                .collect(Collectors.toMap(MediaMetadataDTO::travelPackageId, Function.identity(), (first, tie) -> first));
+
+        return packages.stream()
+                .map(pkg -> {
+                    List<PackageDate> dates = datesByPackage.getOrDefault(pkg.getId(), List.of());
+                    List<MediaMetadataDTO> mediaList = Optional.ofNullable(firstMediaByPackage.get(pkg.getId()))
+                            .map(List::of)
+                            .orElse(List.of());
+
+                    return travelPackageMapper.toDTOWithDatesAndFirstMedia(pkg, dates, mediaList);
+                })
+                .toList();
+    }
+
     private void validateCreationAndUpdate(TravelPackage travelPackage) {
         if (isDuplicatePackage(travelPackage)) {
             throw new DuplicatedRegistryException("A travel package with the same data already exists.");
@@ -1,34 +1,43 @@
 package com.orvian.travelapi.service.impl;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import static java.util.Optional.ofNullable;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.FillPatternType;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
-import com.itextpdf.io.font.constants.StandardFonts;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.font.PdfFont;
-import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.geom.PageSize;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
@@ -39,14 +48,17 @@ import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
 import com.orvian.travelapi.controller.dto.admin.ReservationToSheetDTO;
+import com.orvian.travelapi.controller.dto.email.ReservationCancellationEmailDTO;
+import com.orvian.travelapi.controller.dto.media.MediaMetadataDTO;
+import com.orvian.travelapi.controller.dto.pagination.CursorPageDTO;
 import com.orvian.travelapi.controller.dto.payment.CreatePaymentDTO;
+import com.orvian.travelapi.controller.dto.reservation.BulkCancellationResultDTO;
 import com.orvian.travelapi.controller.dto.reservation.CreateReservationDTO;
 import com.orvian.travelapi.controller.dto.reservation.ReservationDateDTO;
 import com.orvian.travelapi.controller.dto.reservation.ReservationSearchResultDTO;
 import com.orvian.travelapi.controller.dto.reservation.UpdateReservationDTO;
 import com.orvian.travelapi.domain.enums.PaymentStatus;
 import com.orvian.travelapi.domain.enums.ReservationSituation;
-import com.orvian.travelapi.domain.model.Media;
 import com.orvian.travelapi.domain.model.PackageDate;
 import com.orvian.travelapi.domain.model.Payment;
 import com.orvian.travelapi.domain.model.Reservation;
@@ -58,11 +70,19 @@ import com.orvian.travelapi.domain.repository.ReservationRepository;
 import com.orvian.travelapi.domain.repository.UserRepository;
 import com.orvian.travelapi.mapper.PaymentMapper;
 import com.orvian.travelapi.mapper.ReservationMapper;
+import com.orvian.travelapi.service.EmailNotificationService;
 import com.orvian.travelapi.service.PaymentService;
 import com.orvian.travelapi.service.ReservationService;
+import com.orvian.travelapi.service.SeatInventoryService;
+import com.orvian.travelapi.service.cache.ReservationOwnerCache;
+import com.orvian.travelapi.service.exception.BusinessException;
 import com.orvian.travelapi.service.exception.DuplicatedRegistryException;
 import com.orvian.travelapi.service.exception.NotFoundException;
+import com.orvian.travelapi.service.pagination.KeysetCursor;
+import com.orvian.travelapi.service.pdf.PdfFontProvider;
+import com.orvian.travelapi.service.search.PackageFacetStore;
 import static com.orvian.travelapi.service.exception.PersistenceExceptionUtil.handlePersistenceError;
+import com.orvian.travelapi.specs.KeysetSpecs;
 import com.orvian.travelapi.specs.ReservationSpecs;
 
 import jakarta.transaction.Transactional;
@@ -83,6 +103,17 @@ public class ReservationServiceImpl implements ReservationService {
     private final PaymentMapper paymentMapper;
     private final MediaRepository mediaRepository;
     private final PaymentService paymentService;
+    private final SeatInventoryService seatInventoryService;
+    private final PdfFontProvider pdfFontProvider;
+    private final ReservationOwnerCache reservationOwnerCache;
+    private final EmailNotificationService emailService;
+    private final PackageFacetStore facetStore;
+
+    private static final int EXCEL_ROW_WINDOW = 100;
+    private static final int PDF_FLUSH_INTERVAL = 200;
+    private static final int MAX_EXCEL_COLUMN_WIDTH = 6000;
+    private static final int CURRENCY_CELL_LENGTH = 14;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
     @Override
     public Page<ReservationSearchResultDTO> findAll(Integer pageNumber, Integer pageSize, UUID userID) {
@@ -92,18 +123,7 @@ public class ReservationServiceImpl implements ReservationService {
             Specification<Reservation> spec = (userID != null) ? ReservationSpecs.userIdEquals(userID) : null;
             Pageable pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by("createdAt").descending());
 
-            return reservationRepository
-                    .findAll(spec, pageRequest)
-                    .map(reservation -> {
-                        Payment payment = paymentRepository.findByReservation_Id(reservation.getId()).orElse(null);
-
-                        // ✅ NOVA LÓGICA: Buscar primeira mídia do pacote associado
-                        Optional<Media> firstMedia = mediaRepository.findFirstByTravelPackage_IdOrderByCreatedAtAsc(
-                                reservation.getPackageDate().getTravelPackage().getId()
-                        );
-
-                        return reservationMapper.toDTOWithFirstMedia(reservation, payment, firstMedia.orElse(null));
-                    });
+            return toSearchResultPage(reservationRepository.findAll(spec, pageRequest));
         } catch (Exception e) {
             log.error("Erro ao buscar reservas: {}", e.getMessage(), e);
             throw new RuntimeException("Erro ao buscar reservas: " + e.getMessage());
@@ -122,24 +142,71 @@ public class ReservationServiceImpl implements ReservationService {
 
             Pageable pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by("createdAt").descending());
 
-            return reservationRepository
-                    .findAll(spec, pageRequest)
-                    .map(reservation -> {
-                        Payment payment = paymentRepository.findByReservation_Id(reservation.getId()).orElse(null);
-
-                        // ✅ NOVA LÓGICA: Buscar primeira mídia do pacote associado
-                        Optional<Media> firstMedia = mediaRepository.findFirstByTravelPackage_IdOrderByCreatedAtAsc(
-                                reservation.getPackageDate().getTravelPackage().getId()
-                        );
-
-                        return reservationMapper.toDTOWithFirstMedia(reservation, payment, firstMedia.orElse(null));
-                    });
+            return toSearchResultPage(reservationRepository.findAll(spec, pageRequest));
         } catch (Exception e) {
             log.error("Erro ao buscar reservas por status e data: {}", e.getMessage(), e);
             throw new RuntimeException("Erro ao buscar reservas por status e data: " + e.getMessage());
         }
     }
 
+    @Override
+    public CursorPageDTO<ReservationSearchResultDTO> findAllByCursor(String cursor, Integer pageSize, UUID userId,
+            boolean withTotal) {
+        Specification<Reservation> filter = (userId != null) ? ReservationSpecs.userIdEquals(userId) : null;
+        Specification<Reservation> spec = KeysetSpecs.after(filter, KeysetCursor.decode(cursor));
+
+        try {
+            log.info("Retrieving reservations by cursor for user ID: {}", userId);
+
+            List<Reservation> rows = reservationRepository.findBy(spec, query -> query
+                    .project("user", "packageDate", "packageDate.travelPackage")
+                    .sortBy(KeysetCursor.SORT)
+                    .limit(pageSize + 1)
+                    .all());
+            Long total = withTotal ? reservationRepository.count(KeysetSpecs.after(filter, null)) : null;
+
+            return KeysetCursor.toPage(rows, pageSize, Reservation::getCreatedAt, Reservation::getId,
+                    this::toSearchResults, total);
+        } catch (Exception e) {
+            log.error("Erro ao buscar reservas por cursor: {}", e.getMessage(), e);
+            throw new RuntimeException("Erro ao buscar reservas: " + e.getMessage());
+        }
+    }
+
+    private Page<ReservationSearchResultDTO> toSearchResultPage(Page<Reservation> reservations) {
+        return new PageImpl<>(toSearchResults(reservations.getContent()), reservations.getPageable(),
+                reservations.getTotalElements());
+    }
+
+    /**
+     * Monta os resultados buscando pagamentos e primeira mídia de todos os
+     * itens da página de uma só vez (2 consultas fixas, independente do
+     * tamanho da página).
+     */
+    private List<ReservationSearchResultDTO> toSearchResults(List<Reservation> content) {
+        if (content.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> reservationIds = content.stream().map(Reservation::getId).toList();
+        Set<UUID> packageIds = content.stream()
+                .map(reservation -> reservation.getPackageDate().getTravelPackage().getId())
+                .collect(Collectors.toSet());
+
+        Map<UUID, Payment> paymentByReservation = paymentRepository.findByReservation_IdIn(reservationIds).stream()
+                .collect(Collectors.toMap(payment -> payment.getReservation().getId(), Function.identity(), (first, other) -> first));
+
+        Map<UUID, MediaMetadataDTO> firstMediaByPackage = mediaRepository.findFirstMetadataByTravelPackageIdIn(packageIds).stream()
+                .collect(Collectors.toMap(MediaMetadataDTO::travelPackageId, Function.identity(), (first, tie) -> first));
+
+        return content.stream()
+                .map(reservation -> reservationMapper.toDTOWithFirstMedia(
+                        reservation,
+                        paymentByReservation.get(reservation.getId()),
+                        firstMediaByPackage.get(reservation.getPackageDate().getTravelPackage().getId())))
+                .toList();
+    }
+
     @Override
     public Reservation create(Record dto) {
 
@@ -147,26 +214,37 @@ public class ReservationServiceImpl implements ReservationService {
 
             CreateReservationDTO dtoReservation = (CreateReservationDTO) dto;
 
+            Reservation reservation = reservationMapper.toEntity(dtoReservation);
+            reservation.setTravelers(ofNullable(dtoReservation.travelers())
+                    .orElse(List.of())
+                    .stream()
+                    .filter(Objects::nonNull)
+                    .map(reservationMapper::toEntity)
+                    .collect(Collectors.toList()));
+
+            /*
+             * As vagas são reservadas antes de qualquer leitura: o UPDATE
+             * condicional bloqueia a linha da data até o commit, serializando
+             * reservas concorrentes para a mesma data. Com isso a verificação
+             * de duplicidade abaixo enxerga as reservas já confirmadas.
+             */
+            seatInventoryService.reserve(dtoReservation.packageDateId(), seatInventoryService.seatsFor(reservation));
+
             User user = userRepository.findById(dtoReservation.userId())
                     .orElseThrow(() -> new NotFoundException("User not found with ID: " + dtoReservation.userId()));
             PackageDate packageDate = packageDateRepository.findById(dtoReservation.packageDateId())
                     .orElseThrow(() -> new NotFoundException("Package date not found with ID: " + dtoReservation.packageDateId()));
 
-            if (reservationRepository.existsByUserIdAndPackageDateId(dtoReservation.userId(), dtoReservation.packageDateId())) {
+            // Reservas canceladas (inclusive pendências expiradas) não ocupam a vaga do usuário
+            if (reservationRepository.existsByUserIdAndPackageDateIdAndSituationNot(dtoReservation.userId(),
+                    dtoReservation.packageDateId(), ReservationSituation.CANCELADA)) {
                 throw new DuplicatedRegistryException("A reservation already exists for this user and package date");
             }
 
-            Reservation reservation = reservationMapper.toEntity(dtoReservation);
             log.info("Creating reservation with ID: {}", reservation);
 
             reservation.setUser(user);
             reservation.setPackageDate(packageDate);
-            reservation.setTravelers(ofNullable(dtoReservation.travelers())
-                    .orElse(List.of())
-                    .stream()
-                    .filter(Objects::nonNull)
-                    .map(reservationMapper::toEntity)
-                    .collect(Collectors.toList()));
 
             Reservation savedReservation = reservationRepository.save(reservation);
             reservationRepository.flush();
@@ -176,6 +254,8 @@ public class ReservationServiceImpl implements ReservationService {
             }
 
             return savedReservation;
+        } catch (NotFoundException | DuplicatedRegistryException | BusinessException e) {
+            throw e;
         } catch (IllegalArgumentException e) {
             log.error("Invalid argument provided for reservation creation: {}", e.getMessage());
             throw new IllegalArgumentException("Invalid argument provided for reservation creation: " + e.getMessage());
@@ -237,12 +317,18 @@ public class ReservationServiceImpl implements ReservationService {
                 throw new IllegalStateException("Reservation is already cancelled");
             }
 
-            reservation.setSituation(ReservationSituation.CANCELADA);
+            int seats = seatInventoryService.seatsFor(reservation);
+            UUID packageDateId = reservation.getPackageDate().getId();
 
-            Reservation cancelledReservation = reservationRepository.save(reservation);
+            if (reservationRepository.updateSituationIfDifferent(id, ReservationSituation.CANCELADA,
+                    LocalDateTime.now(ZoneOffset.UTC)) == 0) {
+                log.warn("Reservation {} was cancelled concurrently", id);
+                throw new IllegalStateException("Reservation is already cancelled");
+            }
 
-            log.info("Reservation {} successfully cancelled (soft delete). Status changed to CANCELADA",
-                    cancelledReservation.getId());
+            seatInventoryService.release(packageDateId, seats);
+
+            log.info("Reservation {} successfully cancelled (soft delete). Status changed to CANCELADA", id);
 
         } catch (NotFoundException | IllegalStateException e) {
             // Re-throw exceptions específicas
@@ -253,6 +339,47 @@ public class ReservationServiceImpl implements ReservationService {
         }
     }
 
+    /**
+     * O lock na data de pacote impede novas reservas durante o cancelamento.
+     * As reservas são lidas uma vez (dados do aviso e viajantes), canceladas
+     * em um único UPDATE e as vagas devolvidas em uma única operação. Se o
+     * UPDATE não atingir exatamente as reservas lidas, houve um cancelamento
+     * concorrente e tudo é desfeito para não devolver vagas em dobro.
+     */
+    @Override
+    public BulkCancellationResultDTO cancelByPackageDate(UUID packageDateId) {
+        packageDateRepository.findByIdForUpdate(packageDateId)
+                .orElseThrow(() -> new NotFoundException("Package date not found with ID: " + packageDateId));
+
+        List<ReservationCancellationEmailDTO> reservations = reservationRepository
+                .findActiveForCancellation(packageDateId, ReservationSituation.CANCELADA);
+        if (reservations.isEmpty()) {
+            log.info("No active reservations to cancel on package date {}", packageDateId);
+            return new BulkCancellationResultDTO(packageDateId, 0, 0, 0);
+        }
+
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        int cancelled = reservationRepository.cancelByPackageDate(packageDateId, ReservationSituation.CANCELADA,
+                now.toLocalDate(), now);
+        if (cancelled != reservations.size()) {
+            log.warn("Bulk cancel on package date {} expected {} reservations but updated {}",
+                    packageDateId, reservations.size(), cancelled);
+            throw new BusinessException("Reservations for this package date changed during the cancellation, try again");
+        }
+
+        // Mesma regra do seatsFor: um assento por viajante, mínimo 1
+        int seats = reservations.stream()
+                .mapToInt(r -> (int) Math.max(1, r.totalTravelers()))
+                .sum();
+        seatInventoryService.release(packageDateId, seats);
+        facetStore.markStale();
+
+        int queued = emailService.sendReservationCancellationEmails(reservations);
+
+        log.info("Cancelled {} reservation(s) on package date {}, released {} seat(s)", cancelled, packageDateId, seats);
+        return new BulkCancellationResultDTO(packageDateId, cancelled, seats, queued);
+    }
+
     @Override
     public List<ReservationDateDTO> findAvailableReservationDates(UUID userId) {
         try {
@@ -283,10 +410,9 @@ public class ReservationServiceImpl implements ReservationService {
 
     public boolean isReservationOwnedByUser(UUID reservationId, UUID userId) {
         try {
-            Reservation reservation = reservationRepository.findById(reservationId)
+            UUID reservationOwnerId = reservationOwnerCache.findOwnerId(reservationId)
                     .orElseThrow(() -> new NotFoundException("Reservation not found with id: " + reservationId));
 
-            UUID reservationOwnerId = reservation.getUser().getId();
             boolean isOwner = reservationOwnerId.equals(userId);
 
             log.debug("Reservation ownership check: reservationId={}, userId={}, isOwner={}",
@@ -328,121 +454,116 @@ public class ReservationServiceImpl implements ReservationService {
     }
 
     @Override
-    public byte[] exportReservationsToExcel() {
-        try {
-            List<ReservationToSheetDTO> data = reservationRepository.exportToSheet();
+    public boolean hasReservationsToExport() {
+        return reservationRepository.existsToSheet() == 1;
+    }
 
-            if (data.isEmpty()) {
-                log.warn("No reservation data found for export");
-                return new byte[0];
-            }
+    @Override
+    public void exportReservationsToExcel(OutputStream out) {
+        // Mantém no máximo EXCEL_ROW_WINDOW linhas em memória; as demais vão para arquivo temporário
+        var workbook = new SXSSFWorkbook(EXCEL_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
 
-            try (var workbook = new XSSFWorkbook()) {
-                var sheet = workbook.createSheet("Reservas");
+        try (workbook; Stream<ReservationToSheetDTO> rows = reservationRepository.streamToSheet()) {
+            var sheet = workbook.createSheet("Reservas");
 
-                createExcelHeader(workbook, sheet);
-                populateExcelData(sheet, data);
-                autoSizeExcelColumns(sheet);
+            int[] maxLengths = createExcelHeader(workbook, sheet);
+            int count = populateExcelData(sheet, rows.iterator(), maxLengths);
+            applyEstimatedColumnWidths(sheet, maxLengths);
 
-                try (var out = new ByteArrayOutputStream()) {
-                    workbook.write(out);
-                    log.info("Successfully generated Excel file with {} reservations", data.size());
-                    return out.toByteArray();
-                }
-            }
+            workbook.write(out);
+            log.info("Successfully generated Excel file with {} reservations", count);
         } catch (Exception e) {
             log.error("Error generating Excel export: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to generate Excel export", e);
+        } finally {
+            workbook.dispose();
         }
     }
 
     @Override
-    public byte[] exportReservationsToPdf() {
-        try {
-            List<ReservationToSheetDTO> data = reservationRepository.exportToSheet();
+    public void exportReservationsToPdf(OutputStream out) {
+        try (Stream<ReservationToSheetDTO> rows = reservationRepository.streamToSheet()) {
+            var pdfWriter = new PdfWriter(out);
+            var pdfDocument = new PdfDocument(pdfWriter);
 
-            if (data.isEmpty()) {
-                log.warn("No reservation data found for PDF export");
-                return new byte[0];
-            }
+            // ✅ CONFIGURAR ORIENTAÇÃO HORIZONTAL (PAISAGEM)
+            pdfDocument.setDefaultPageSize(PageSize.A4.rotate());
 
-            try (var out = new ByteArrayOutputStream()) {
-                var pdfWriter = new PdfWriter(out);
-                var pdfDocument = new PdfDocument(pdfWriter);
-
-                // ✅ CONFIGURAR ORIENTAÇÃO HORIZONTAL (PAISAGEM)
-                pdfDocument.setDefaultPageSize(PageSize.A4.rotate());
-
-                var document = new Document(pdfDocument);
-
-                // ✅ CONFIGURAR MARGENS MENORES PARA APROVEITAR MELHOR O ESPAÇO
-                document.setMargins(20, 20, 20, 20);
-
-                // ✅ CONFIGURAR FONTE PARA PORTUGUÊS
-                var font = PdfFontFactory.createFont(StandardFonts.HELVETICA);
-
-                // ✅ TÍTULO DO DOCUMENTO
-                var title = new Paragraph("Relatório de Reservas - Orvian Travel")
-                        .setFont(font)
-                        .setFontSize(16) // ✅ REDUZIDO PARA CABER MELHOR
-                        .setBold()
-                        .setTextAlignment(TextAlignment.CENTER)
-                        .setMarginBottom(15);
-                document.add(title);
-
-                // ✅ DATA DE GERAÇÃO
-                var dateGenerated = new Paragraph(
-                        "Gerado em: " + java.time.LocalDateTime.now()
-                                .format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")))
-                        .setFont(font)
-                        .setFontSize(9)
-                        .setTextAlignment(TextAlignment.RIGHT)
-                        .setMarginBottom(15);
-                document.add(dateGenerated);
-
-                // ✅ CRIAR TABELA COM LARGURAS OTIMIZADAS PARA HORIZONTAL
-                var table = new Table(UnitValue.createPercentArray(new float[]{
-                    12f, // ID Reserva
-                    12f, // ID Pacote  
-                    8f, // Preço
-                    20f, // Título (mais espaço)
-                    10f, // Data Reserva
-                    8f, // Situação
-                    10f, // Data Cancelamento
-                    15f, // Email (mais espaço)
-                    5f // Viajantes
-                })).useAllAvailableWidth();
-
-                // ✅ HEADER DA TABELA
-                addPdfTableHeader(table, font);
-
-                // ✅ DADOS DA TABELA
-                addPdfTableData(table, data, font);
-
-                document.add(table);
-
-                // ✅ RODAPÉ
-                var footer = new Paragraph(
-                        String.format("Total de registros: %d | © 2025 Orvian Travel", data.size()))
-                        .setFont(font)
-                        .setFontSize(8)
-                        .setTextAlignment(TextAlignment.CENTER)
-                        .setMarginTop(15);
-                document.add(footer);
-
-                document.close();
-
-                log.info("Successfully generated horizontal PDF file with {} reservations", data.size());
-                return out.toByteArray();
-            }
+            var document = new Document(pdfDocument);
+
+            // ✅ CONFIGURAR MARGENS MENORES PARA APROVEITAR MELHOR O ESPAÇO
+            document.setMargins(20, 20, 20, 20);
+
+            // ✅ FONTE A PARTIR DO PROGRAMA EM CACHE
+            var font = pdfFontProvider.regular();
+
+            // ✅ TÍTULO DO DOCUMENTO
+            var title = new Paragraph("Relatório de Reservas - Orvian Travel")
+                    .setFont(font)
+                    .setFontSize(16) // ✅ REDUZIDO PARA CABER MELHOR
+                    .setBold()
+                    .setTextAlignment(TextAlignment.CENTER)
+                    .setMarginBottom(15);
+            document.add(title);
+
+            // ✅ DATA DE GERAÇÃO
+            var dateGenerated = new Paragraph(
+                    "Gerado em: " + java.time.LocalDateTime.now()
+                            .format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")))
+                    .setFont(font)
+                    .setFontSize(9)
+                    .setTextAlignment(TextAlignment.RIGHT)
+                    .setMarginBottom(15);
+            document.add(dateGenerated);
+
+            // ✅ TABELA GRANDE: adicionada ao documento antes de ser preenchida
+            // e descarregada em blocos, sem manter todas as linhas em memória
+            var table = new Table(UnitValue.createPercentArray(new float[]{
+                12f, // ID Reserva
+                12f, // ID Pacote
+                8f, // Preço
+                20f, // Título (mais espaço)
+                10f, // Data Reserva
+                8f, // Situação
+                10f, // Data Cancelamento
+                15f, // Email (mais espaço)
+                5f // Viajantes
+            }), true).useAllAvailableWidth();
+
+            // ✅ HEADER DA TABELA
+            addPdfTableHeader(table, font);
+            document.add(table);
+
+            // ✅ DADOS DA TABELA
+            int count = addPdfTableData(table, rows.iterator(), font);
+            table.complete();
+
+            // ✅ RODAPÉ
+            var footer = new Paragraph(
+                    String.format("Total de registros: %d | © 2025 Orvian Travel", count))
+                    .setFont(font)
+                    .setFontSize(8)
+                    .setTextAlignment(TextAlignment.CENTER)
+                    .setMarginTop(15);
+            document.add(footer);
+
+            document.close();
+
+            log.info("Successfully generated horizontal PDF file with {} reservations", count);
         } catch (Exception e) {
             log.error("Error generating PDF export: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to generate PDF export", e);
         }
     }
 
-    private void createExcelHeader(XSSFWorkbook workbook,
-            XSSFSheet sheet) {
+    /**
+     * Cria o cabeçalho e retorna o tamanho inicial de cada coluna, usado para
+     * estimar as larguras sem o autoSizeColumn (que exigiria todas as linhas
+     * em memória).
+     */
+    private int[] createExcelHeader(Workbook workbook,
+            Sheet sheet) {
         var headerStyle = workbook.createCellStyle();
         headerStyle.setFillForegroundColor(IndexedColors.LIGHT_BLUE.getIndex());
         headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
@@ -470,15 +591,19 @@ public class ReservationServiceImpl implements ReservationService {
             "Email do Usuário", "Quantidade de Viajantes"
         };
 
+        int[] maxLengths = new int[headers.length];
         for (int i = 0; i < headers.length; i++) {
             var cell = header.createCell(i);
             cell.setCellValue(headers[i]);
             cell.setCellStyle(headerStyle);
+            maxLengths[i] = headers[i].length();
         }
+        return maxLengths;
     }
 
-    private void populateExcelData(XSSFSheet sheet,
-            List<ReservationToSheetDTO> data) {
+    private int populateExcelData(Sheet sheet,
+            Iterator<ReservationToSheetDTO> rows,
+            int[] maxLengths) {
 
         var workbook = sheet.getWorkbook();
         var dataStyle = workbook.createCellStyle();
@@ -492,70 +617,51 @@ public class ReservationServiceImpl implements ReservationService {
         var currencyFormat = workbook.createDataFormat();
         currencyStyle.setDataFormat(currencyFormat.getFormat("R$ #,##0.00"));
 
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-
         int rowIdx = 1;
-        for (ReservationToSheetDTO dto : data) {
+        while (rows.hasNext()) {
+            ReservationToSheetDTO dto = rows.next();
             var row = sheet.createRow(rowIdx++);
 
-            var cell0 = row.createCell(0);
-            cell0.setCellValue(dto.reservationId() != null ? dto.reservationId() : "");
-            cell0.setCellStyle(dataStyle);
-
-            var cell1 = row.createCell(1);
-            cell1.setCellValue(dto.packageId() != null ? dto.packageId() : "");
-            cell1.setCellStyle(dataStyle);
+            setTextCell(row, 0, dto.reservationId(), dataStyle, maxLengths);
+            setTextCell(row, 1, dto.packageId(), dataStyle, maxLengths);
 
             var cell2 = row.createCell(2);
             cell2.setCellValue(dto.price() != null ? dto.price().doubleValue() : 0.0);
             cell2.setCellStyle(currencyStyle); // ✅ FORMATO MOEDA
+            maxLengths[2] = Math.max(maxLengths[2], CURRENCY_CELL_LENGTH);
 
-            var cell3 = row.createCell(3);
-            cell3.setCellValue(dto.packageTitle() != null ? dto.packageTitle() : "");
-            cell3.setCellStyle(dataStyle);
-
-            var cell4 = row.createCell(4);
-            if (dto.reservationDate() != null) {
-                LocalDate localDate = dto.reservationDate().toLocalDate();
-                cell4.setCellValue(localDate.format(dateFormatter));
-            } else {
-                cell4.setCellValue("");
-            }
-            cell4.setCellStyle(dataStyle);
-
-            var cell5 = row.createCell(5);
-            cell5.setCellValue(dto.situation() != null ? dto.situation() : "");
-            cell5.setCellStyle(dataStyle);
-
-            var cell6 = row.createCell(6);
-            if (dto.cancelDate() != null) {
-                LocalDate localDate = dto.cancelDate().toLocalDate();
-                cell6.setCellValue(localDate.format(dateFormatter));
-            } else {
-                cell6.setCellValue("");
-            }
-            cell6.setCellStyle(dataStyle);
-
-            var cell7 = row.createCell(7);
-            cell7.setCellValue(dto.userEmail() != null ? dto.userEmail() : "");
-            cell7.setCellStyle(dataStyle);
+            setTextCell(row, 3, dto.packageTitle(), dataStyle, maxLengths);
+            setTextCell(row, 4, dto.reservationDate() != null
+                    ? dto.reservationDate().toLocalDate().format(DATE_FORMATTER) : null, dataStyle, maxLengths);
+            setTextCell(row, 5, dto.situation(), dataStyle, maxLengths);
+            setTextCell(row, 6, dto.cancelDate() != null
+                    ? dto.cancelDate().toLocalDate().format(DATE_FORMATTER) : null, dataStyle, maxLengths);
+            setTextCell(row, 7, dto.userEmail(), dataStyle, maxLengths);
 
             var cell8 = row.createCell(8);
-
             cell8.setCellValue(Objects.requireNonNullElse(dto.qtdViajantes(), 0));
             cell8.setCellStyle(dataStyle);
         }
 
+        return rowIdx - 1;
     }
 
-    private void autoSizeExcelColumns(XSSFSheet sheet) {
-        for (int i = 0; i < 9; i++) {
-            sheet.autoSizeColumn(i);
+    private void setTextCell(Row row, int column, String value, CellStyle style, int[] maxLengths) {
+        var cell = row.createCell(column);
+        cell.setCellValue(value != null ? value : "");
+        cell.setCellStyle(style);
+        if (value != null && value.length() > maxLengths[column]) {
+            maxLengths[column] = value.length();
+        }
+    }
 
-            int currentWidth = sheet.getColumnWidth(i);
-            if (currentWidth > 6000) {
-                sheet.setColumnWidth(i, 6000);
-            }
+    /**
+     * Largura estimada pelo maior texto de cada coluna (1/256 de caractere
+     * por unidade), limitada ao mesmo teto de antes.
+     */
+    private void applyEstimatedColumnWidths(Sheet sheet, int[] maxLengths) {
+        for (int i = 0; i < maxLengths.length; i++) {
+            sheet.setColumnWidth(i, Math.min((maxLengths[i] + 2) * 256, MAX_EXCEL_COLUMN_WIDTH));
         }
     }
 
@@ -579,13 +685,13 @@ public class ReservationServiceImpl implements ReservationService {
         }
     }
 
-    private void addPdfTableData(Table table,
-            List<ReservationToSheetDTO> data,
+    private int addPdfTableData(Table table,
+            Iterator<ReservationToSheetDTO> rows,
             PdfFont font) {
 
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-
-        for (ReservationToSheetDTO dto : data) {
+        int count = 0;
+        while (rows.hasNext()) {
+            ReservationToSheetDTO dto = rows.next();
             // ID Reserva (primeiros 8 chars)
             table.addCell(createPdfCell(
                     dto.reservationId() != null ? dto.reservationId().substring(0, 8) + "..." : "",
@@ -612,7 +718,7 @@ public class ReservationServiceImpl implements ReservationService {
             String formattedReservationDate = "";
             if (dto.reservationDate() != null) {
                 LocalDate localDate = dto.reservationDate().toLocalDate();
-                formattedReservationDate = dateFormatter.format(localDate);
+                formattedReservationDate = DATE_FORMATTER.format(localDate);
             }
             table.addCell(createPdfCell(formattedReservationDate, font, 8));
 
@@ -625,7 +731,7 @@ public class ReservationServiceImpl implements ReservationService {
             String formattedCancelDate = "";
             if (dto.cancelDate() != null) {
                 LocalDate localDate = dto.cancelDate().toLocalDate();
-                formattedCancelDate = dateFormatter.format(localDate);
+                formattedCancelDate = DATE_FORMATTER.format(localDate);
             }
             table.addCell(createPdfCell(formattedCancelDate, font, 8));
 
@@ -640,7 +746,13 @@ public class ReservationServiceImpl implements ReservationService {
             table.addCell(createPdfCell(
                     String.valueOf(Objects.requireNonNullElse(dto.qtdViajantes(), 0)),
                     font, 8));
+
+            // ✅ Descarrega as linhas já renderizadas para o documento
+            if (++count % PDF_FLUSH_INTERVAL == 0) {
+                table.flush();
+            }
         }
+        return count;
     }
 
     private Cell createPdfCell(String content,
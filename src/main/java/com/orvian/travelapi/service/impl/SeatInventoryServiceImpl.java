@@ -0,0 +1,99 @@
+package com.orvian.travelapi.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+
+import com.orvian.travelapi.domain.model.PackageDate;
+import com.orvian.travelapi.domain.model.Reservation;
+import com.orvian.travelapi.domain.repository.PackageDateRepository;
+import com.orvian.travelapi.service.SeatInventoryService;
+import com.orvian.travelapi.service.cache.PackageCatalogCache;
+import com.orvian.travelapi.service.exception.BusinessException;
+import com.orvian.travelapi.service.exception.NotFoundException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Controle de vagas das datas de pacote. O decremento é feito com um UPDATE
+ * condicional (QTD_AVAILABLE >= vagas), de modo que o próprio banco garante
+ * que o estoque nunca fique negativo, mesmo com reservas simultâneas. O lock
+ * de linha obtido pelo UPDATE permanece até o fim da transação chamadora.
+ * Os UPDATEs não limpam o contexto de persistência (isso desanexaria as
+ * reservas e o restante do que a transação chamadora carregou); apenas a
+ * data afetada é recarregada, se já estiver carregada.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SeatInventoryServiceImpl implements SeatInventoryService {
+
+    private final PackageDateRepository packageDateRepository;
+    private final PackageCatalogCache catalogCache;
+    private final EntityManager entityManager;
+
+    @Override
+    public void reserve(UUID packageDateId, int seats) {
+        if (seats < 1) {
+            throw new IllegalArgumentException("Seats must be greater than zero");
+        }
+
+        int updated = packageDateRepository.decrementAvailable(packageDateId, seats, LocalDateTime.now(ZoneOffset.UTC));
+        if (updated == 0) {
+            if (!packageDateRepository.existsById(packageDateId)) {
+                throw new NotFoundException("Package date not found with ID: " + packageDateId);
+            }
+            log.warn("Not enough seats on package date {} for {} traveler(s)", packageDateId, seats);
+            throw new BusinessException("Not enough seats available for this package date");
+        }
+        refreshIfLoaded(packageDateId);
+        evictCatalog(packageDateId);
+        log.info("Reserved {} seat(s) on package date {}", seats, packageDateId);
+    }
+
+    @Override
+    public void release(UUID packageDateId, int seats) {
+        if (seats < 1) {
+            return;
+        }
+        packageDateRepository.incrementAvailable(packageDateId, seats, LocalDateTime.now(ZoneOffset.UTC));
+        refreshIfLoaded(packageDateId);
+        evictCatalog(packageDateId);
+        log.info("Released {} seat(s) on package date {}", seats, packageDateId);
+    }
+
+    /**
+     * O UPDATE em massa não passa pelo contexto de persistência: se a data já
+     * foi carregada nesta transação (ex.: pela reserva, que traz a data
+     * EAGER, ou pelo lock do cancelamento em massa), ela ainda tem a
+     * quantidade antiga. O getReference não consulta o banco; um proxy não
+     * inicializado será lido do banco quando for usado e não precisa de
+     * refresh.
+     */
+    private void refreshIfLoaded(UUID packageDateId) {
+        PackageDate packageDate = entityManager.getReference(PackageDate.class, packageDateId);
+        if (Hibernate.isInitialized(packageDate)) {
+            entityManager.refresh(packageDate);
+        }
+    }
+
+    /**
+     * As vagas disponíveis fazem parte das datas exibidas no catálogo; só o
+     * pacote da data é invalidado.
+     */
+    private void evictCatalog(UUID packageDateId) {
+        packageDateRepository.findTravelPackageIdById(packageDateId).ifPresent(catalogCache::evictAvailability);
+    }
+
+    @Override
+    public int seatsFor(Reservation reservation) {
+        return reservation.getTravelers() == null ? 1 : Math.max(1, reservation.getTravelers().size());
+    }
+}
@@ -1,5 +1,6 @@
 package com.orvian.travelapi.service.impl;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,6 +14,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.orvian.travelapi.controller.dto.pagination.CursorPageDTO;
 import com.orvian.travelapi.controller.dto.user.CreateUserDTO;
 import com.orvian.travelapi.controller.dto.user.UpdateUserDTO;
 import com.orvian.travelapi.controller.dto.user.UserSearchResultDTO;
@@ -20,10 +22,14 @@ import com.orvian.travelapi.domain.model.User;
 import com.orvian.travelapi.domain.repository.UserRepository;
 import com.orvian.travelapi.mapper.UserMapper;
 import com.orvian.travelapi.service.UserService;
+import com.orvian.travelapi.service.cache.ReservationOwnerCache;
 import com.orvian.travelapi.service.exception.AccessDeniedException;
 import com.orvian.travelapi.service.exception.DuplicatedRegistryException;
 import com.orvian.travelapi.service.exception.NotFoundException;
+import com.orvian.travelapi.service.pagination.KeysetCursor;
+import com.orvian.travelapi.service.security.PrincipalCache;
 import static com.orvian.travelapi.service.exception.PersistenceExceptionUtil.handlePersistenceError;
+import com.orvian.travelapi.specs.KeysetSpecs;
 import static com.orvian.travelapi.specs.UserSpecs.nameLike;
 
 import lombok.RequiredArgsConstructor;
@@ -37,6 +43,8 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder encoder;
+    private final PrincipalCache principalCache;
+    private final ReservationOwnerCache reservationOwnerCache;
 
     @Override
     public Page<UserSearchResultDTO> findAll(Integer pageNumber, Integer pageSize, String name) {
@@ -52,6 +60,27 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    @Override
+    public CursorPageDTO<UserSearchResultDTO> findAllByCursor(String cursor, Integer pageSize, String name,
+            boolean withTotal) {
+        Specification<User> filter = (name != null && !name.isBlank()) ? nameLike(name) : null;
+        Specification<User> spec = KeysetSpecs.after(filter, KeysetCursor.decode(cursor));
+
+        try {
+            List<User> rows = userRepository.findBy(spec, query -> query
+                    .sortBy(KeysetCursor.SORT)
+                    .limit(pageSize + 1)
+                    .all());
+            Long total = withTotal ? userRepository.count(KeysetSpecs.after(filter, null)) : null;
+
+            return KeysetCursor.toPage(rows, pageSize, User::getCreatedAt, User::getId,
+                    users -> users.stream().map(userMapper::toDTO).toList(), total);
+        } catch (Exception e) {
+            log.error("Erro ao buscar usuários por cursor: {}", e.getMessage(), e);
+            throw new RuntimeException("Erro ao buscar usuários: " + e.getMessage());
+        }
+    }
+
     @Override
     public User create(Record dto) {
         User user = userMapper.toEntity((CreateUserDTO) dto);
@@ -108,6 +137,7 @@ public class UserServiceImpl implements UserService {
             }
 
             User updatedUser = userRepository.save(user);
+            principalCache.invalidate(updatedUser.getId());
             log.info("User updated successfully - ID: {}, Final role: {}", updatedUser.getId(), updatedUser.getRole());
 
         } catch (IllegalArgumentException e) {
@@ -128,6 +158,8 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.deleteById(id);
+        principalCache.invalidate(id);
+        reservationOwnerCache.evictByOwner(id);
         log.info("User with ID: {} deleted successfully", id);
     }
 
@@ -0,0 +1,74 @@
+package com.orvian.travelapi.service.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+
+import com.orvian.travelapi.controller.dto.pagination.CursorPageDTO;
+import com.orvian.travelapi.service.exception.BusinessException;
+
+/**
+ * Posição de uma listagem ordenada por (createdAt, id) decrescentes. É
+ * enviada ao cliente como token opaco e a página seguinte começa logo após
+ * ela, sem OFFSET.
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+    /**
+     * Ordenação das listagens por cursor. O id desempata registros criados no
+     * mesmo instante, tornando a ordem total.
+     */
+    public static final Sort SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o cursor recebido do cliente; nulo ou vazio indica a primeira
+     * página.
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+
+    /**
+     * Monta a página a partir das linhas buscadas com limite pageSize + 1: a
+     * linha excedente só indica que existe uma próxima página e não é
+     * retornada.
+     */
+    public static <E, D> CursorPageDTO<D> toPage(List<E> rows, int pageSize,
+            Function<E, LocalDateTime> createdAt, Function<E, UUID> id,
+            Function<List<E>, List<D>> mapper, Long totalElements) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(createdAt.apply(last), id.apply(last)).encode();
+        }
+
+        return new CursorPageDTO<>(mapper.apply(content), pageSize, nextCursor, totalElements);
+    }
+}
@@ -0,0 +1,48 @@
+package com.orvian.travelapi.service.pdf;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.springframework.stereotype.Component;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+
+/**
+ * Mantém os programas de fonte carregados uma única vez. Um PdfFont pertence
+ * a um único PdfDocument e não pode ser compartilhado entre documentos, por
+ * isso cada exportação cria o seu a partir do FontProgram em cache (operação
+ * barata, sem reler métricas).
+ */
+@Component
+public class PdfFontProvider {
+
+    private final FontProgram regular;
+    private final FontProgram bold;
+
+    public PdfFontProvider() {
+        try {
+            this.regular = FontProgramFactory.createFont(StandardFonts.HELVETICA);
+            this.bold = FontProgramFactory.createFont(StandardFonts.HELVETICA_BOLD);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load PDF font program", e);
+        }
+    }
+
+    /**
+     * Fonte regular para um novo documento.
+     */
+    public PdfFont regular() {
+        return PdfFontFactory.createFont(regular);
+    }
+
+    /**
+     * Fonte negrito para um novo documento.
+     */
+    public PdfFont bold() {
+        return PdfFontFactory.createFont(bold);
+    }
+}
@@ -0,0 +1,247 @@
+package com.orvian.travelapi.service.pdf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.itextpdf.kernel.colors.Color;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.colors.DeviceRgb;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.properties.TextAlignment;
+import com.orvian.travelapi.controller.dto.admin.RenderStatsDTO;
+import com.orvian.travelapi.controller.dto.email.EmailConfirmationDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gera o voucher em PDF de uma reserva paga. A parte fixa (cabeçalho,
+ * rótulos, rodapé) é desenhada uma única vez na inicialização; cada voucher
+ * abre esse layout em cache e só escreve os valores da reserva por cima,
+ * usando as fontes do PdfFontProvider.
+ */
+@Component
+@Slf4j
+public class VoucherPdfRenderer {
+
+    private static final Color BRAND_DARK = new DeviceRgb(0x00, 0x46, 0x57);
+    private static final Color BRAND_ACCENT = new DeviceRgb(0xF7, 0xA7, 0x00);
+    private static final Color LABEL_GRAY = new DeviceRgb(0x66, 0x66, 0x66);
+    private static final Color LINE_GRAY = new DeviceRgb(0xDD, 0xDD, 0xDD);
+
+    private static final PageSize PAGE = PageSize.A4;
+    private static final float MARGIN = 50f;
+    private static final float CONTENT_WIDTH = PAGE.getWidth() - 2 * MARGIN;
+    private static final float LABEL_WIDTH = 150f;
+    private static final float HEADER_BOTTOM = 740f;
+    private static final float FOOTER_TOP = 50f;
+    private static final float FIRST_ROW_BOTTOM = 680f;
+    private static final float ROW_HEIGHT = 36f;
+    private static final int MAX_VALUE_LENGTH = 70;
+
+    private static final String[] LABELS = {
+        "Reserva", "Cliente", "Pacote", "Destino", "Data de ida", "Data de volta",
+        "Viajantes", "Valor pago", "Método de pagamento", "Aprovado em"
+    };
+
+    private static final ZoneId BRASILIA_ZONE = ZoneId.of("America/Sao_Paulo");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(
+            "dd/MM/yyyy 'às' HH:mm", Locale.forLanguageTag("pt-BR"));
+
+    private final PdfFontProvider fontProvider;
+    private final byte[] layout;
+
+    private final LongAdder rendered = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private volatile long lastNanos;
+
+    public VoucherPdfRenderer(PdfFontProvider fontProvider) {
+        this.fontProvider = fontProvider;
+        this.layout = buildLayout(fontProvider);
+    }
+
+    public byte[] render(EmailConfirmationDTO data) {
+        long start = System.nanoTime();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(layout.length + 4096);
+
+        try {
+            Document document = new Document(new PdfDocument(
+                    new PdfReader(new ByteArrayInputStream(layout)), new PdfWriter(out)));
+            PdfFont regular = fontProvider.regular();
+            PdfFont bold = fontProvider.bold();
+
+            document.add(new Paragraph("#" + shortCode(data))
+                    .setFont(bold)
+                    .setFontSize(16)
+                    .setFontColor(ColorConstants.WHITE)
+                    .setTextAlignment(TextAlignment.RIGHT)
+                    .setFixedPosition(1, MARGIN, 780, CONTENT_WIDTH));
+
+            String[] values = values(data);
+            for (int i = 0; i < values.length; i++) {
+                document.add(new Paragraph(truncate(values[i]))
+                        .setFont(i == 2 ? bold : regular)
+                        .setFontSize(11)
+                        .setFontColor(BRAND_DARK)
+                        .setFixedPosition(1, MARGIN + LABEL_WIDTH, rowBottom(i), CONTENT_WIDTH - LABEL_WIDTH));
+            }
+
+            document.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to render voucher for reservation " + data.reservationId(), e);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        record(elapsed);
+        log.info("Voucher for reservation {} rendered in {} ms ({} bytes)",
+                data.reservationId(), TimeUnit.NANOSECONDS.toMillis(elapsed), out.size());
+        return out.toByteArray();
+    }
+
+    public String fileName(EmailConfirmationDTO data) {
+        return "voucher-orvian-" + shortCode(data).toLowerCase(Locale.ROOT) + ".pdf";
+    }
+
+    public RenderStatsDTO stats() {
+        long count = rendered.sum();
+        double average = count == 0 ? 0 : toMillis(totalNanos.sum()) / count;
+        return new RenderStatsDTO("reservation-voucher", count, average, toMillis(maxNanos.get()), toMillis(lastNanos));
+    }
+
+    private void record(long elapsed) {
+        rendered.increment();
+        totalNanos.add(elapsed);
+        maxNanos.accumulateAndGet(elapsed, Math::max);
+        lastNanos = elapsed;
+    }
+
+    private static String[] values(EmailConfirmationDTO data) {
+        return new String[]{
+            String.valueOf(data.reservationId()),
+            data.customerName(),
+            data.packageTitle(),
+            data.packageDestination(),
+            formatDate(data.tripStartDate()),
+            formatDate(data.tripEndDate()),
+            data.totalTravelers() + " pessoa(s)",
+            "R$ " + data.totalAmountPaid(),
+            data.paymentMethod(),
+            formatDateTime(data.paymentApprovedAt())
+        };
+    }
+
+    /**
+     * Desenha tudo o que é igual em todos os vouchers.
+     */
+    private static byte[] buildLayout(PdfFontProvider fontProvider) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PdfDocument pdf = new PdfDocument(new PdfWriter(out));
+        PdfPage page = pdf.addNewPage(PAGE);
+        Document document = new Document(pdf, PAGE);
+        PdfFont regular = fontProvider.regular();
+        PdfFont bold = fontProvider.bold();
+
+        PdfCanvas canvas = new PdfCanvas(page);
+        canvas.setFillColor(BRAND_DARK)
+                .rectangle(0, HEADER_BOTTOM, PAGE.getWidth(), PAGE.getHeight() - HEADER_BOTTOM)
+                .fill();
+        canvas.setFillColor(BRAND_ACCENT)
+                .rectangle(0, HEADER_BOTTOM - 6, PAGE.getWidth(), 6)
+                .fill();
+        canvas.setFillColor(BRAND_DARK)
+                .rectangle(0, 0, PAGE.getWidth(), FOOTER_TOP)
+                .fill();
+        canvas.setStrokeColor(LINE_GRAY).setLineWidth(0.5f);
+        for (int i = 0; i < LABELS.length; i++) {
+            float y = rowBottom(i) - 8;
+            canvas.moveTo(MARGIN, y).lineTo(MARGIN + CONTENT_WIDTH, y).stroke();
+        }
+
+        document.add(new Paragraph("ORVIAN TRAVEL")
+                .setFont(bold)
+                .setFontSize(26)
+                .setFontColor(ColorConstants.WHITE)
+                .setFixedPosition(1, MARGIN, 780, CONTENT_WIDTH));
+        document.add(new Paragraph("VOUCHER DE VIAGEM")
+                .setFont(bold)
+                .setFontSize(12)
+                .setFontColor(BRAND_ACCENT)
+                .setFixedPosition(1, MARGIN, 755, CONTENT_WIDTH));
+
+        for (int i = 0; i < LABELS.length; i++) {
+            document.add(new Paragraph(LABELS[i])
+                    .setFont(bold)
+                    .setFontSize(10)
+                    .setFontColor(LABEL_GRAY)
+                    .setFixedPosition(1, MARGIN, rowBottom(i), LABEL_WIDTH));
+        }
+
+        document.add(new Paragraph("Apresente este voucher impresso ou no celular no embarque, "
+                + "junto com um documento oficial com foto de cada viajante.")
+                .setFont(regular)
+                .setFontSize(10)
+                .setFontColor(BRAND_DARK)
+                .setFixedPosition(1, MARGIN, 260, CONTENT_WIDTH));
+        document.add(new Paragraph("© 2024 Orvian Travel - Todos os direitos reservados")
+                .setFont(regular)
+                .setFontSize(9)
+                .setFontColor(ColorConstants.WHITE)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setFixedPosition(1, MARGIN, 18, CONTENT_WIDTH));
+
+        document.close();
+        return out.toByteArray();
+    }
+
+    private static float rowBottom(int row) {
+        return FIRST_ROW_BOTTOM - row * ROW_HEIGHT;
+    }
+
+    private static String shortCode(EmailConfirmationDTO data) {
+        return data.reservationId().toString().substring(0, 8).toUpperCase(Locale.ROOT);
+    }
+
+    private static String truncate(String value) {
+        if (value == null) {
+            return "-";
+        }
+        return value.length() > MAX_VALUE_LENGTH ? value.substring(0, MAX_VALUE_LENGTH - 3) + "..." : value;
+    }
+
+    private static String formatDate(LocalDate date) {
+        return date != null ? DATE_FORMATTER.format(date) : null;
+    }
+
+    private static String formatDateTime(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return dateTime.atZone(ZoneOffset.UTC).withZoneSameInstant(BRASILIA_ZONE).format(DATE_TIME_FORMATTER);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
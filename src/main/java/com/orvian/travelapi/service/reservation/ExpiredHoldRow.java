@@ -0,0 +1,18 @@
+package com.orvian.travelapi.service.reservation;
+
+import java.util.UUID;
+
+/**
+ * Reserva expirada travada pelo reaper, com a data de pacote e a quantidade de
+ * viajantes para devolver as vagas.
+ */
+public record ExpiredHoldRow(UUID reservationId, UUID packageDateId, long travelers) {
+
+    /**
+     * Mesma regra do SeatInventoryService.seatsFor: um assento por viajante,
+     * mínimo 1.
+     */
+    public int seats() {
+        return (int) Math.max(1, travelers);
+    }
+}
@@ -0,0 +1,180 @@
+package com.orvian.travelapi.service.reservation;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orvian.travelapi.config.ReservationExpiryProperties;
+import com.orvian.travelapi.controller.dto.admin.ReservationExpiryRunDTO;
+import com.orvian.travelapi.domain.enums.PaymentStatus;
+import com.orvian.travelapi.domain.enums.ReservationSituation;
+import com.orvian.travelapi.domain.repository.ReservationRepository;
+import com.orvian.travelapi.service.SeatInventoryService;
+import com.orvian.travelapi.service.search.PackageFacetStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cancela reservas PENDENTE sem pagamento aprovado depois de
+ * {@code holdTtl}, devolvendo as vagas. Cada lote roda em uma transação
+ * curta (busca pelo índice, lock das linhas, UPDATE em conjunto, devolução das
+ * vagas), de modo que os locks em TB_RESERVATIONS duram apenas um lote.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationExpiryReaper {
+
+    private final ReservationRepository reservationRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final PackageFacetStore facetStore;
+    private final ReservationExpiryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock running = new ReentrantLock();
+    private final AtomicReference<ReservationExpiryRunDTO> lastRun = new AtomicReference<>();
+
+    @Scheduled(fixedDelayString = "${orvian.reservation.expiry.interval-ms:300000}",
+            initialDelayString = "${orvian.reservation.expiry.interval-ms:300000}")
+    public void scheduledRun() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            expireHolds();
+        } catch (RuntimeException e) {
+            log.error("Reservation expiry run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Executa uma rodada completa. Retorna null se outra rodada já estiver em
+     * andamento nesta instância.
+     */
+    public ReservationExpiryRunDTO expireHolds() {
+        if (!running.tryLock()) {
+            log.info("Reservation expiry run already in progress, skipping");
+            return null;
+        }
+        try {
+            return run();
+        } finally {
+            running.unlock();
+        }
+    }
+
+    public ReservationExpiryRunDTO lastRun() {
+        return lastRun.get();
+    }
+
+    private ReservationExpiryRunDTO run() {
+        LocalDateTime startedAt = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime cutoff = startedAt.minus(properties.getHoldTtl());
+        long start = System.nanoTime();
+
+        int batches = 0;
+        int cancelled = 0;
+        int seats = 0;
+        long maxBatchNanos = 0;
+        boolean limitReached = false;
+
+        while (true) {
+            if (batches >= properties.getMaxBatchesPerRun()) {
+                limitReached = true;
+                break;
+            }
+
+            long batchStart = System.nanoTime();
+            BatchResult result = transactionTemplate.execute(status -> expireBatch(cutoff));
+            maxBatchNanos = Math.max(maxBatchNanos, System.nanoTime() - batchStart);
+
+            if (result == null || result.scanned() == 0) {
+                break;
+            }
+            batches++;
+            cancelled += result.cancelled();
+            seats += result.seats();
+
+            if (result.scanned() < properties.getBatchSize()) {
+                break;
+            }
+        }
+
+        if (cancelled > 0) {
+            facetStore.markStale();
+        }
+
+        ReservationExpiryRunDTO run = new ReservationExpiryRunDTO(
+                startedAt,
+                cutoff,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                batches,
+                cancelled,
+                seats,
+                TimeUnit.NANOSECONDS.toMillis(maxBatchNanos),
+                limitReached);
+        lastRun.set(run);
+
+        if (cancelled > 0 || limitReached) {
+            log.info("Reservation expiry: cancelled {} hold(s) created before {}, released {} seat(s) "
+                    + "in {} batch(es), {} ms (slowest batch {} ms){}",
+                    cancelled, cutoff, seats, batches, run.durationMillis(), run.maxBatchMillis(),
+                    limitReached ? ", batch limit reached" : "");
+        } else {
+            log.debug("Reservation expiry: nothing to cancel ({} ms)", run.durationMillis());
+        }
+        return run;
+    }
+
+    private BatchResult expireBatch(LocalDateTime cutoff) {
+        List<UUID> ids = reservationRepository.findExpiredHoldIds(ReservationSituation.PENDENTE, cutoff,
+                PaymentStatus.APROVADO, PageRequest.of(0, properties.getBatchSize()));
+        if (ids.isEmpty()) {
+            return new BatchResult(0, 0, 0);
+        }
+
+        // Com as linhas travadas até o commit, o conjunto lido aqui é
+        // exatamente o que o UPDATE cancela: outra rodada (nesta ou em outra
+        // instância) espera e depois não as vê mais como PENDENTE
+        List<UUID> locked = reservationRepository.lockExpiredHolds(ids, ReservationSituation.PENDENTE,
+                PaymentStatus.APROVADO);
+        if (locked.isEmpty()) {
+            return new BatchResult(ids.size(), 0, 0);
+        }
+
+        Map<UUID, Integer> seatsByPackageDate = new LinkedHashMap<>();
+        for (ExpiredHoldRow row : reservationRepository.findHoldSeats(locked)) {
+            seatsByPackageDate.merge(row.packageDateId(), row.seats(), Integer::sum);
+        }
+
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        int updated = reservationRepository.cancelExpiredHolds(locked, ReservationSituation.PENDENTE,
+                ReservationSituation.CANCELADA, PaymentStatus.APROVADO, now.toLocalDate(), now);
+        if (updated != locked.size()) {
+            // Não deveria acontecer com as linhas travadas; desfaz o lote em
+            // vez de devolver vagas de reservas que não foram canceladas
+            throw new IllegalStateException("Expected to cancel " + locked.size()
+                    + " locked hold(s) but cancelled " + updated);
+        }
+        seatsByPackageDate.forEach(seatInventoryService::release);
+
+        int seats = seatsByPackageDate.values().stream().mapToInt(Integer::intValue).sum();
+        return new BatchResult(ids.size(), updated, seats);
+    }
+
+    private record BatchResult(int scanned, int cancelled, int seats) {
+
+    }
+}
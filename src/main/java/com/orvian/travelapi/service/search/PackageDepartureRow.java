@@ -0,0 +1,13 @@
+package com.orvian.travelapi.service.search;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Data de saída futura com vagas, usada na faceta de mês de início.
+ */
+public record PackageDepartureRow(
+        UUID travelPackageId,
+        LocalDate startDate
+) {
+}
@@ -0,0 +1,18 @@
+package com.orvian.travelapi.service.search;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+/**
+ * Filtros da busca facetada. Filtros ausentes são nulos (ou conjunto vazio
+ * para destinos).
+ */
+public record PackageFacetFilter(
+        String title,
+        Set<String> destinations,
+        String priceBand,
+        String duration,
+        YearMonth startMonth,
+        Integer maxPeople
+) {
+}
@@ -0,0 +1,19 @@
+package com.orvian.travelapi.service.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Atributos de um pacote carregados pelo {@link PackageFacetStore}.
+ */
+public record PackageFacetRow(
+        UUID id,
+        String title,
+        String destination,
+        BigDecimal price,
+        int duration,
+        int maxPeople,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,373 @@
+package com.orvian.travelapi.service.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.orvian.travelapi.controller.dto.travelpackage.FacetCountDTO;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageFacetsDTO;
+import com.orvian.travelapi.domain.repository.PackageDateRepository;
+import com.orvian.travelapi.domain.repository.TravelPackageRepository;
+import com.orvian.travelapi.service.exception.BusinessException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Armazenamento colunar em memória dos atributos de pacote usados na busca
+ * facetada. Cada atributo é um array primitivo indexado pela posição do
+ * pacote (ordenados do mais recente para o mais antigo); destinos são
+ * codificados por dicionário e preço/duração já ficam resolvidos em faixas.
+ *
+ * Uma busca percorre as colunas uma única vez: o pacote que atende a todos os
+ * filtros entra no resultado e conta em todas as facetas; o que falha em
+ * exatamente um filtro facetado conta apenas na faceta desse filtro (padrão de
+ * multi-seleção, em que a faceta ignora o próprio filtro).
+ *
+ * O snapshot é recriado na inicialização, após o commit de escritas em
+ * pacotes e periodicamente, o que também reflete datas esgotadas ou que já
+ * passaram. Depois de uma escrita, a próxima busca agenda a recarga em uma
+ * thread própria e continua respondendo com o snapshot anterior até a troca;
+ * só a primeira carga (sem snapshot) bloqueia a requisição.
+ */
+@Component
+@Slf4j
+public class PackageFacetStore {
+
+    private static final long[] PRICE_BAND_LIMITS = {1_000_00L, 2_500_00L, 5_000_00L, 10_000_00L};
+    private static final List<String> PRICE_BANDS = List.of("0-1000", "1000-2500", "2500-5000", "5000-10000", "10000+");
+
+    private static final int[] DURATION_LIMITS = {3, 7, 14};
+    private static final List<String> DURATIONS = List.of("1-3", "4-7", "8-14", "15+");
+
+    private static final int[] NO_MONTHS = new int[0];
+
+    private final TravelPackageRepository travelPackageRepository;
+    private final PackageDateRepository packageDateRepository;
+
+    private final ExecutorService refresher;
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+    private volatile boolean stale = true;
+
+    public PackageFacetStore(TravelPackageRepository travelPackageRepository,
+            PackageDateRepository packageDateRepository) {
+        this.travelPackageRepository = travelPackageRepository;
+        this.packageDateRepository = packageDateRepository;
+        this.refresher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "facet-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Colunas imutáveis de uma carga completa.
+     */
+    private record Snapshot(
+            UUID[] ids,
+            String[] titles,
+            String[] destinationTexts,
+            int[] destinationCodes,
+            String[] destinationLabels,
+            int[] maxPeople,
+            byte[] priceBands,
+            byte[] durations,
+            int[][] startMonths) {
+
+        int size() {
+            return ids.length;
+        }
+    }
+
+    /**
+     * IDs que atendem aos filtros, na ordem de criação decrescente, e as
+     * contagens das facetas.
+     */
+    public record Result(List<UUID> ids, PackageFacetsDTO facets) {
+
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${orvian.search.facets.refresh-interval-ms:60000}",
+            initialDelayString = "${orvian.search.facets.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * Marca o snapshot como desatualizado após o commit da transação atual; a
+     * próxima busca agenda a recarga das colunas em segundo plano.
+     */
+    public void markStale() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stale = true;
+                }
+            });
+        } else {
+            stale = true;
+        }
+    }
+
+    public Result search(PackageFacetFilter filter) {
+        Snapshot current = current();
+
+        String text = PackageSearchIndex.normalize(filter.title());
+        int priceBand = indexOf(PRICE_BANDS, filter.priceBand(), "Faixa de preço inválida: ");
+        int duration = indexOf(DURATIONS, filter.duration(), "Faixa de duração inválida: ");
+        int month = filter.startMonth() != null ? monthKey(filter.startMonth()) : -1;
+        int minPeople = filter.maxPeople() != null ? filter.maxPeople() : 0;
+        boolean[] selectedDestinations = selectedDestinations(current, filter.destinations());
+
+        long[] destinationCounts = new long[current.destinationLabels().length];
+        long[] priceCounts = new long[PRICE_BANDS.size()];
+        long[] durationCounts = new long[DURATIONS.size()];
+        Map<Integer, Long> monthCounts = new HashMap<>();
+        List<UUID> ids = new ArrayList<>();
+
+        for (int i = 0; i < current.size(); i++) {
+            // Filtros que não são facetas eliminam o pacote de todas as contagens
+            if (current.maxPeople()[i] < minPeople) {
+                continue;
+            }
+            if (!text.isEmpty() && !current.titles()[i].contains(text) && !current.destinationTexts()[i].contains(text)) {
+                continue;
+            }
+
+            boolean destinationOk = selectedDestinations == null || selectedDestinations[current.destinationCodes()[i]];
+            boolean priceOk = priceBand < 0 || current.priceBands()[i] == priceBand;
+            boolean durationOk = duration < 0 || current.durations()[i] == duration;
+            boolean monthOk = month < 0 || Arrays.binarySearch(current.startMonths()[i], month) >= 0;
+
+            int failures = (destinationOk ? 0 : 1) + (priceOk ? 0 : 1) + (durationOk ? 0 : 1) + (monthOk ? 0 : 1);
+            if (failures > 1) {
+                continue;
+            }
+            if (failures == 0) {
+                ids.add(current.ids()[i]);
+            }
+            if (failures == 0 || !destinationOk) {
+                destinationCounts[current.destinationCodes()[i]]++;
+            }
+            if (failures == 0 || !priceOk) {
+                priceCounts[current.priceBands()[i]]++;
+            }
+            if (failures == 0 || !durationOk) {
+                durationCounts[current.durations()[i]]++;
+            }
+            if (failures == 0 || !monthOk) {
+                for (int startMonth : current.startMonths()[i]) {
+                    monthCounts.merge(startMonth, 1L, Long::sum);
+                }
+            }
+        }
+
+        PackageFacetsDTO facets = new PackageFacetsDTO(
+                destinationFacet(current.destinationLabels(), destinationCounts),
+                bucketFacet(PRICE_BANDS, priceCounts),
+                bucketFacet(DURATIONS, durationCounts),
+                monthFacet(monthCounts));
+
+        return new Result(ids, facets);
+    }
+
+    /**
+     * Recarrega todas as colunas (2 consultas de projeção) e troca o snapshot.
+     */
+    public synchronized void refresh() {
+        try {
+            long start = System.currentTimeMillis();
+            stale = false;
+
+            List<PackageFacetRow> rows = travelPackageRepository.findAllFacetRows();
+            Map<UUID, TreeSet<Integer>> monthsByPackage = new HashMap<>();
+            for (PackageDepartureRow departure : packageDateRepository.findAvailableDeparturesFrom(LocalDate.now(ZoneOffset.UTC))) {
+                monthsByPackage.computeIfAbsent(departure.travelPackageId(), id -> new TreeSet<>())
+                        .add(monthKey(YearMonth.from(departure.startDate())));
+            }
+
+            int size = rows.size();
+            UUID[] ids = new UUID[size];
+            String[] titles = new String[size];
+            String[] destinationTexts = new String[size];
+            int[] destinationCodes = new int[size];
+            int[] maxPeople = new int[size];
+            byte[] priceBands = new byte[size];
+            byte[] durations = new byte[size];
+            int[][] startMonths = new int[size][];
+            Map<String, Integer> dictionary = new LinkedHashMap<>();
+            List<String> destinationLabels = new ArrayList<>();
+
+            for (int i = 0; i < size; i++) {
+                PackageFacetRow row = rows.get(i);
+                ids[i] = row.id();
+                titles[i] = PackageSearchIndex.normalize(row.title());
+                destinationTexts[i] = PackageSearchIndex.normalize(row.destination());
+                destinationCodes[i] = dictionary.computeIfAbsent(destinationTexts[i], key -> {
+                    destinationLabels.add(row.destination());
+                    return destinationLabels.size() - 1;
+                });
+                maxPeople[i] = row.maxPeople();
+                priceBands[i] = (byte) priceBandOf(row.price());
+                durations[i] = (byte) durationOf(row.duration());
+
+                TreeSet<Integer> months = monthsByPackage.get(row.id());
+                startMonths[i] = months == null ? NO_MONTHS : months.stream().mapToInt(Integer::intValue).toArray();
+            }
+
+            snapshot = new Snapshot(ids, titles, destinationTexts, destinationCodes,
+                    destinationLabels.toArray(String[]::new), maxPeople, priceBands, durations, startMonths);
+
+            log.info("Package facet store loaded with {} packages in {} ms", size, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            stale = true;
+            log.error("Failed to refresh package facet store: {}", e.getMessage(), e);
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+            if (current == null) {
+                throw new IllegalStateException("Package facet store is not available");
+            }
+        } else if (stale) {
+            scheduleRefresh();
+        }
+        return current;
+    }
+
+    /**
+     * Agenda no máximo uma recarga por vez; buscas concorrentes com o snapshot
+     * desatualizado não enfileiram recargas repetidas.
+     */
+    private void scheduleRefresh() {
+        if (!refreshQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshQueued.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshQueued.set(false);
+            log.warn("Package facet refresh rejected: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private static boolean[] selectedDestinations(Snapshot current, Set<String> destinations) {
+        if (destinations == null || destinations.isEmpty()) {
+            return null;
+        }
+        Set<String> normalized = destinations.stream().map(PackageSearchIndex::normalize).collect(Collectors.toSet());
+        boolean[] selected = new boolean[current.destinationLabels().length];
+        for (int code = 0; code < selected.length; code++) {
+            selected[code] = normalized.contains(PackageSearchIndex.normalize(current.destinationLabels()[code]));
+        }
+        return selected;
+    }
+
+    private static List<FacetCountDTO> destinationFacet(String[] labels, long[] counts) {
+        List<FacetCountDTO> facet = new ArrayList<>();
+        for (int code = 0; code < labels.length; code++) {
+            if (counts[code] > 0) {
+                facet.add(new FacetCountDTO(labels[code], counts[code]));
+            }
+        }
+        facet.sort(Comparator.comparingLong(FacetCountDTO::count).reversed().thenComparing(FacetCountDTO::value));
+        return facet;
+    }
+
+    private static List<FacetCountDTO> bucketFacet(List<String> buckets, long[] counts) {
+        List<FacetCountDTO> facet = new ArrayList<>(buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            facet.add(new FacetCountDTO(buckets.get(i), counts[i]));
+        }
+        return facet;
+    }
+
+    private static List<FacetCountDTO> monthFacet(Map<Integer, Long> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new FacetCountDTO(fromMonthKey(entry.getKey()).toString(), entry.getValue()))
+                .toList();
+    }
+
+    private static int indexOf(List<String> buckets, String value, String error) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        int index = buckets.indexOf(value.trim());
+        if (index < 0) {
+            throw new BusinessException(error + value + ". Valores aceitos: " + buckets);
+        }
+        return index;
+    }
+
+    private static int priceBandOf(BigDecimal price) {
+        long cents = price == null ? 0 : price.movePointRight(2).longValue();
+        int band = 0;
+        while (band < PRICE_BAND_LIMITS.length && cents >= PRICE_BAND_LIMITS[band]) {
+            band++;
+        }
+        return band;
+    }
+
+    private static int durationOf(int days) {
+        int bucket = 0;
+        while (bucket < DURATION_LIMITS.length && days > DURATION_LIMITS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static int monthKey(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    private static YearMonth fromMonthKey(int key) {
+        return YearMonth.of(key / 12, key % 12 + 1);
+    }
+}
@@ -0,0 +1,15 @@
+package com.orvian.travelapi.service.search;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Campos de um pacote usados pelo {@link PackageSearchIndex}.
+ */
+public record PackageSearchDocument(
+        UUID id,
+        String title,
+        String destination,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,470 @@
+package com.orvian.travelapi.service.search;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.orvian.travelapi.controller.dto.travelpackage.PackageSuggestionDTO;
+import com.orvian.travelapi.domain.model.TravelPackage;
+import com.orvian.travelapi.domain.repository.TravelPackageRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice de trigramas em memória sobre título e destino dos pacotes, usado na
+ * busca textual do catálogo no lugar do LIKE '%x%' (que sempre varre
+ * TB_PACKAGES).
+ *
+ * O texto é normalizado sem acentos e em minúsculas, então "São Paulo" e
+ * "sao paulo" são equivalentes. Cada pacote ocupa uma posição (slot) e cada
+ * trigrama aponta para um array ordenado de slots; a busca intersecta os
+ * arrays dos trigramas da consulta e confirma os candidatos com contains.
+ *
+ * Para o autocomplete há também um mapa ordenado de termos (palavras e textos
+ * completos de título e destino) para slots, consultado por faixa de prefixo.
+ *
+ * O índice é montado na inicialização, atualizado após o commit das escritas
+ * do PackageServiceImpl e reconstruído periodicamente para absorver
+ * alterações feitas por outras instâncias. Enquanto não estiver pronto,
+ * {@link #search(String)} retorna null e a busca usa as specs.
+ */
+@Component
+@Slf4j
+public class PackageSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final TravelPackageRepository travelPackageRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private List<Entry> slots = new ArrayList<>();
+    private Map<UUID, Integer> slotById = new HashMap<>();
+    private Map<String, int[]> postings = new HashMap<>();
+    private TreeMap<String, Set<Integer>> terms = new TreeMap<>();
+    private volatile boolean ready;
+
+    /**
+     * Atualizações incrementais recebidas durante um rebuild (protegidas pelo
+     * write lock). São reaplicadas sobre o índice novo antes da troca, pois a
+     * leitura do banco pode ter acontecido antes do commit delas.
+     */
+    private List<PendingUpdate> pendingUpdates;
+
+    public PackageSearchIndex(TravelPackageRepository travelPackageRepository) {
+        this.travelPackageRepository = travelPackageRepository;
+    }
+
+    private record Entry(UUID id, String title, String destination, LocalDateTime createdAt,
+            String titleLabel, String destinationLabel) {
+
+    }
+
+    /**
+     * Inclusão/atualização (entry preenchida) ou exclusão (entry nula).
+     */
+    private record PendingUpdate(UUID id, Entry entry) {
+
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${orvian.search.rebuild-interval-ms:900000}",
+            initialDelayString = "${orvian.search.rebuild-interval-ms:900000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Recarrega o índice inteiro a partir do banco, compactando os slots
+     * liberados por atualizações e exclusões. As atualizações incrementais
+     * que chegam enquanto o banco é lido são registradas e reaplicadas sobre
+     * o índice novo na troca, para não se perderem.
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            List<PackageSearchDocument> documents = travelPackageRepository.findAllSearchDocuments();
+
+            List<Entry> newSlots = new ArrayList<>(documents.size());
+            Map<UUID, Integer> newSlotById = new HashMap<>(documents.size() * 2);
+            Map<String, List<Integer>> builder = new HashMap<>();
+            TreeMap<String, Set<Integer>> newTerms = new TreeMap<>();
+
+            for (PackageSearchDocument document : documents) {
+                int slot = newSlots.size();
+                Entry entry = toEntry(document);
+                newSlots.add(entry);
+                newSlotById.put(entry.id(), slot);
+                for (String gram : gramsOf(entry)) {
+                    builder.computeIfAbsent(gram, key -> new ArrayList<>()).add(slot);
+                }
+                for (String term : termsOf(entry)) {
+                    newTerms.computeIfAbsent(term, key -> new HashSet<>()).add(slot);
+                }
+            }
+
+            Map<String, int[]> newPostings = new HashMap<>(builder.size() * 2);
+            builder.forEach((gram, list) -> newPostings.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+
+            int replayed;
+            lock.writeLock().lock();
+            try {
+                slots = newSlots;
+                slotById = newSlotById;
+                postings = newPostings;
+                terms = newTerms;
+                replayed = pendingUpdates.size();
+                pendingUpdates.forEach(this::apply);
+                pendingUpdates = null;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("Package search index rebuilt with {} packages and {} trigrams in {} ms ({} update(s) replayed)",
+                    slots.size(), postings.size(), System.currentTimeMillis() - start, replayed);
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("Failed to rebuild package search index: {}", e.getMessage(), e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * IDs dos pacotes cujo título ou destino contém o texto, ordenados por
+     * relevância (título antes de destino, prefixo antes de ocorrência no
+     * meio) e, em empate, dos mais recentes para os mais antigos. Retorna null
+     * se o índice ainda não foi carregado.
+     */
+    public List<UUID> search(String text) {
+        if (!ready) {
+            return null;
+        }
+
+        String query = normalize(text);
+        if (query.isEmpty()) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Entry> matches = new ArrayList<>();
+            if (query.length() < GRAM) {
+                for (Entry entry : slots) {
+                    if (entry != null && matches(entry, query)) {
+                        matches.add(entry);
+                    }
+                }
+            } else {
+                for (int slot : candidates(query)) {
+                    Entry entry = slots.get(slot);
+                    if (entry != null && matches(entry, query)) {
+                        matches.add(entry);
+                    }
+                }
+            }
+
+            return matches.stream()
+                    .sorted(Comparator.<Entry>comparingInt(entry -> rank(entry, query))
+                            .thenComparing(Entry::createdAt, Comparator.nullsLast(Comparator.reverseOrder())))
+                    .map(Entry::id)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sugestões para o autocomplete: destinos e títulos com alguma palavra (ou
+     * o texto inteiro) começando pelo prefixo digitado. Destinos vêm primeiro
+     * e aparecem uma única vez; títulos que começam pelo prefixo precedem os
+     * que só têm uma palavra interna correspondente.
+     */
+    public List<PackageSuggestionDTO> suggest(String text, int limit) {
+        String prefix = normalize(text);
+        if (!ready || prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, String> destinations = new LinkedHashMap<>();
+            List<Entry> titles = new ArrayList<>();
+            Set<Integer> seen = new HashSet<>();
+
+            for (Set<Integer> termSlots : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                for (int slot : termSlots) {
+                    if (!seen.add(slot)) {
+                        continue;
+                    }
+                    Entry entry = slots.get(slot);
+                    if (destinations.size() < limit && startsWithWord(entry.destination(), prefix)) {
+                        destinations.putIfAbsent(entry.destination(), entry.destinationLabel());
+                    }
+                    if (titles.size() < limit && startsWithWord(entry.title(), prefix)) {
+                        titles.add(entry);
+                    }
+                }
+                if (destinations.size() >= limit && titles.size() >= limit) {
+                    break;
+                }
+            }
+
+            List<PackageSuggestionDTO> suggestions = new ArrayList<>(destinations.size() + titles.size());
+            destinations.values().forEach(label -> suggestions.add(PackageSuggestionDTO.destination(label)));
+            titles.stream()
+                    .sorted(Comparator.<Entry, Boolean>comparing(entry -> !entry.title().startsWith(prefix))
+                            .thenComparing(Entry::title))
+                    .forEach(entry -> suggestions.add(PackageSuggestionDTO.title(entry.id(), entry.titleLabel())));
+
+            return suggestions.size() > limit ? suggestions.subList(0, limit) : suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inclui ou atualiza o pacote no índice após o commit da transação atual.
+     */
+    public void index(TravelPackage travelPackage) {
+        Entry entry = toEntry(new PackageSearchDocument(travelPackage.getId(), travelPackage.getTitle(),
+                travelPackage.getDestination(), travelPackage.getCreatedAt()));
+        afterCommit(() -> update(new PendingUpdate(entry.id(), entry)));
+    }
+
+    /**
+     * Remove o pacote do índice após o commit da transação atual.
+     */
+    public void remove(UUID packageId) {
+        afterCommit(() -> update(new PendingUpdate(packageId, null)));
+    }
+
+    private void update(PendingUpdate update) {
+        lock.writeLock().lock();
+        try {
+            apply(update);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(PendingUpdate update) {
+        removeSlot(update.id());
+        if (update.entry() != null) {
+            add(update.entry());
+        }
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutAccents = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private int[] candidates(String query) {
+        List<int[]> lists = new ArrayList<>();
+        for (String gram : gramsOf(query)) {
+            int[] list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] out = new int[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                out[n++] = left[i];
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static boolean startsWithWord(String text, String prefix) {
+        return text.startsWith(prefix) || text.contains(" " + prefix);
+    }
+
+    private static boolean matches(Entry entry, String query) {
+        return entry.title().contains(query) || entry.destination().contains(query);
+    }
+
+    private static int rank(Entry entry, String query) {
+        if (entry.title().equals(query)) {
+            return 0;
+        }
+        if (entry.title().startsWith(query)) {
+            return 1;
+        }
+        if (entry.title().contains(" " + query)) {
+            return 2;
+        }
+        if (entry.title().contains(query)) {
+            return 3;
+        }
+        if (entry.destination().startsWith(query)) {
+            return 4;
+        }
+        return 5;
+    }
+
+    private void add(Entry entry) {
+        int slot = slots.size();
+        slots.add(entry);
+        slotById.put(entry.id(), slot);
+        // O novo slot é sempre o maior, então anexá-lo mantém os arrays ordenados
+        for (String gram : gramsOf(entry)) {
+            postings.merge(gram, new int[]{slot}, (current, single) -> {
+                int[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[current.length] = slot;
+                return grown;
+            });
+        }
+        for (String term : termsOf(entry)) {
+            terms.computeIfAbsent(term, key -> new HashSet<>()).add(slot);
+        }
+    }
+
+    private void removeSlot(UUID packageId) {
+        Integer slot = slotById.remove(packageId);
+        if (slot == null) {
+            return;
+        }
+        Entry entry = slots.set(slot, null);
+        for (String gram : gramsOf(entry)) {
+            int[] current = postings.get(gram);
+            if (current == null) {
+                continue;
+            }
+            int position = Arrays.binarySearch(current, slot);
+            if (position < 0) {
+                continue;
+            }
+            if (current.length == 1) {
+                postings.remove(gram);
+            } else {
+                int[] shrunk = new int[current.length - 1];
+                System.arraycopy(current, 0, shrunk, 0, position);
+                System.arraycopy(current, position + 1, shrunk, position, current.length - position - 1);
+                postings.put(gram, shrunk);
+            }
+        }
+        for (String term : termsOf(entry)) {
+            Set<Integer> termSlots = terms.get(term);
+            if (termSlots != null && termSlots.remove(slot) && termSlots.isEmpty()) {
+                terms.remove(term);
+            }
+        }
+    }
+
+    private static Set<String> gramsOf(Entry entry) {
+        Set<String> grams = gramsOf(entry.title());
+        grams.addAll(gramsOf(entry.destination()));
+        return grams;
+    }
+
+    /**
+     * Termos do autocomplete: cada palavra e o texto completo de título e
+     * destino.
+     */
+    private static Set<String> termsOf(Entry entry) {
+        Set<String> result = new HashSet<>();
+        for (String text : List.of(entry.title(), entry.destination())) {
+            if (text.isEmpty()) {
+                continue;
+            }
+            result.add(text);
+            result.addAll(Arrays.asList(text.split(" ")));
+        }
+        return result;
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static Entry toEntry(PackageSearchDocument document) {
+        return new Entry(document.id(), normalize(document.title()), normalize(document.destination()),
+                document.createdAt(), document.title(), document.destination());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
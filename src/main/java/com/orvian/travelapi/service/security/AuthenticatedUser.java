@@ -0,0 +1,14 @@
+package com.orvian.travelapi.service.security;
+
+import java.util.UUID;
+
+/**
+ * Dados mínimos do usuário autenticado mantidos em cache pelo
+ * {@link PrincipalCache}.
+ */
+public record AuthenticatedUser(
+        UUID id,
+        String email,
+        String role
+) {
+}
@@ -0,0 +1,86 @@
+package com.orvian.travelapi.service.security;
+
+import java.util.UUID;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import com.orvian.travelapi.domain.model.User;
+import com.orvian.travelapi.domain.repository.UserRepository;
+import com.orvian.travelapi.service.exception.AccessDeniedException;
+import com.orvian.travelapi.service.security.role.RolePermissionFactory;
+import com.orvian.travelapi.service.security.role.RolePermissionStrategy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Contexto de autorização com escopo de requisição: o usuário autenticado e
+ * sua estratégia de permissões são resolvidos uma única vez por requisição e
+ * reutilizados por todas as verificações do
+ * {@link OrvianAuthorizationService}.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+@Slf4j
+public class CurrentUserContext {
+
+    private final UserRepository userRepository;
+    private final RolePermissionFactory rolePermissionFactory;
+
+    private User user;
+    private RolePermissionStrategy strategy;
+
+    /**
+     * Obtém o usuário atual autenticado, consultando o banco apenas na
+     * primeira chamada da requisição
+     */
+    public User getUser() {
+        if (user == null) {
+            user = resolveUser();
+        }
+        return user;
+    }
+
+    /**
+     * Obtém a estratégia de permissões da role do usuário atual
+     */
+    public RolePermissionStrategy getStrategy() {
+        if (strategy == null) {
+            strategy = rolePermissionFactory.getStrategy(getUser().getRole());
+        }
+        return strategy;
+    }
+
+    public String getRole() {
+        return getUser().getRole();
+    }
+
+    private User resolveUser() {
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+            if (authentication == null || !authentication.isAuthenticated()
+                    || "anonymousUser".equals(authentication.getName())) {
+                throw new AccessDeniedException("Usuário não autenticado");
+            }
+
+            UUID userId = UUID.fromString(authentication.getName());
+
+            return userRepository.findById(userId)
+                    .orElseThrow(() -> new AccessDeniedException("Usuário não encontrado: " + userId));
+
+        } catch (AccessDeniedException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            log.error("ID de usuário inválido no contexto de segurança: {}", e.getMessage());
+            throw new AccessDeniedException("ID de usuário inválido no contexto de segurança");
+        } catch (Exception e) {
+            log.error("Erro ao obter usuário atual: {}", e.getMessage());
+            throw new AccessDeniedException("Erro interno ao verificar autenticação");
+        }
+    }
+}
@@ -2,14 +2,10 @@ package com.orvian.travelapi.service.security;
 
 import java.util.UUID;
 
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import com.orvian.travelapi.domain.model.User;
-import com.orvian.travelapi.domain.repository.UserRepository;
 import com.orvian.travelapi.service.exception.AccessDeniedException;
-import com.orvian.travelapi.service.security.role.RolePermissionFactory;
 import com.orvian.travelapi.service.security.role.RolePermissionStrategy;
 
 import lombok.RequiredArgsConstructor;
@@ -20,46 +16,21 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OrvianAuthorizationService {
 
-    private final UserRepository userRepository;
-    private final RolePermissionFactory rolePermissionFactory;
-
     /**
-     * Obtém o usuário atual autenticado do contexto de segurança
+     * Usuário e estratégia resolvidos uma vez por requisição
      */
-    private User getCurrentUser() {
-        try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-            if (authentication == null || !authentication.isAuthenticated()
-                    || "anonymousUser".equals(authentication.getName())) {
-                throw new AccessDeniedException("Usuário não autenticado");
-            }
-
-            String userIdStr = authentication.getName();
-            UUID userId = UUID.fromString(userIdStr);
-
-            return userRepository.findById(userId)
-                    .orElseThrow(() -> new AccessDeniedException("Usuário não encontrado: " + userId));
-
-        } catch (IllegalArgumentException e) {
-            log.error("ID de usuário inválido no contexto de segurança: {}", e.getMessage());
-            throw new AccessDeniedException("ID de usuário inválido no contexto de segurança");
-        } catch (Exception e) {
-            log.error("Erro ao obter usuário atual: {}", e.getMessage());
-            throw new AccessDeniedException("Erro interno ao verificar autenticação");
-        }
-    }
+    private final CurrentUserContext currentUserContext;
 
     /**
      * Verifica se o usuário atual pode realizar operações de modificação
      */
     public boolean canModifyResource(String operation, String resourceType) {
         try {
-            User currentUser = getCurrentUser();
+            User currentUser = currentUserContext.getUser();
             String userRole = currentUser.getRole();
 
-            // ✅ PERMITIR EXPORTAÇÕES PARA ADMIN E ATENDENTE
-            if ("EXPORT".equals(operation)) {
+            // ✅ PERMITIR EXPORTAÇÕES E CANCELAMENTO EM MASSA PARA ADMIN E ATENDENTE
+            if ("EXPORT".equals(operation) || "BULK_CANCEL".equals(operation)) {
                 boolean canExport = "ADMIN".equals(userRole) || "ATENDENTE".equals(userRole);
 
                 log.debug("User {} (role: {}) attempting {} on {}: {}",
@@ -88,8 +59,8 @@ public class OrvianAuthorizationService {
      */
     public boolean canAccessUserData(UUID targetUserId) {
         try {
-            User currentUser = getCurrentUser();
-            RolePermissionStrategy strategy = rolePermissionFactory.getStrategy(currentUser.getRole());
+            User currentUser = currentUserContext.getUser();
+            RolePermissionStrategy strategy = currentUserContext.getStrategy();
 
             return strategy.canAccessUserData(currentUser, targetUserId);
         } catch (Exception e) {
@@ -103,8 +74,8 @@ public class OrvianAuthorizationService {
      */
     public boolean canCreateResourceForUser(UUID targetUserId, String resourceType) {
         try {
-            User currentUser = getCurrentUser();
-            RolePermissionStrategy strategy = rolePermissionFactory.getStrategy(currentUser.getRole());
+            User currentUser = currentUserContext.getUser();
+            RolePermissionStrategy strategy = currentUserContext.getStrategy();
 
             return strategy.canCreateResourceForUser(currentUser, targetUserId, resourceType);
         } catch (Exception e) {
@@ -118,8 +89,8 @@ public class OrvianAuthorizationService {
      */
     public UUID getEffectiveUserIdForListing(UUID requestedUserId) {
         try {
-            User currentUser = getCurrentUser();
-            RolePermissionStrategy strategy = rolePermissionFactory.getStrategy(currentUser.getRole());
+            User currentUser = currentUserContext.getUser();
+            RolePermissionStrategy strategy = currentUserContext.getStrategy();
 
             return strategy.getEffectiveUserIdForListing(currentUser, requestedUserId);
         } catch (Exception e) {
@@ -133,8 +104,8 @@ public class OrvianAuthorizationService {
      */
     public boolean canUpdateUser(UUID targetUserId) {
         try {
-            User currentUser = getCurrentUser();
-            RolePermissionStrategy strategy = rolePermissionFactory.getStrategy(currentUser.getRole());
+            User currentUser = currentUserContext.getUser();
+            RolePermissionStrategy strategy = currentUserContext.getStrategy();
 
             return strategy.canUpdateUser(currentUser, targetUserId);
         } catch (Exception e) {
@@ -148,8 +119,8 @@ public class OrvianAuthorizationService {
      */
     public boolean canAccessReservation(UUID reservationId) {
         try {
-            User currentUser = getCurrentUser();
-            RolePermissionStrategy strategy = rolePermissionFactory.getStrategy(currentUser.getRole());
+            User currentUser = currentUserContext.getUser();
+            RolePermissionStrategy strategy = currentUserContext.getStrategy();
 
             return strategy.canAccessReservation(currentUser, reservationId);
         } catch (Exception e) {
@@ -163,8 +134,8 @@ public class OrvianAuthorizationService {
      */
     public boolean canCancelReservation(UUID reservationId) {
         try {
-            User currentUser = getCurrentUser();
-            RolePermissionStrategy strategy = rolePermissionFactory.getStrategy(currentUser.getRole());
+            User currentUser = currentUserContext.getUser();
+            RolePermissionStrategy strategy = currentUserContext.getStrategy();
 
             return strategy.canCancelReservation(currentUser, reservationId);
         } catch (Exception e) {
@@ -176,7 +147,7 @@ public class OrvianAuthorizationService {
     // Métodos de conveniência mantidos para compatibilidade
     public boolean isCurrentUserAdmin() {
         try {
-            return "ADMIN".equals(getCurrentUser().getRole());
+            return "ADMIN".equals(currentUserContext.getRole());
         } catch (Exception e) {
             log.debug("Error checking admin status: {}", e.getMessage());
             return false;
@@ -185,7 +156,7 @@ public class OrvianAuthorizationService {
 
     public boolean isCurrentUserAttendenteOrAdmin() {
         try {
-            String role = getCurrentUser().getRole();
+            String role = currentUserContext.getRole();
             return "ADMIN".equals(role) || "ATENDENTE".equals(role);
         } catch (Exception e) {
             log.debug("Error checking attendant/admin status: {}", e.getMessage());
@@ -198,6 +169,6 @@ public class OrvianAuthorizationService {
      * necessário)
      */
     public User getCurrentUserPublic() {
-        return getCurrentUser();
+        return currentUserContext.getUser();
     }
 }
@@ -0,0 +1,72 @@
+package com.orvian.travelapi.service.security;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.orvian.travelapi.domain.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache curto dos usuários autenticados, consultado pelo SecurityFilter em
+ * toda requisição com token. Evita uma ida ao banco por chamada; alterações
+ * de role e exclusões invalidam a entrada pelo UserServiceImpl e o TTL limita
+ * o tempo de qualquer outra divergência.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, AuthenticatedUser> users;
+
+    public PrincipalCache(UserRepository userRepository,
+            @Value("${orvian.security.principal-cache.ttl:60s}") Duration ttl,
+            @Value("${orvian.security.principal-cache.max-entries:10000}") long maxEntries) {
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Usuário autenticado pelo ID, buscando no banco apenas em caso de miss.
+     * Usuários inexistentes não são armazenados.
+     */
+    public Optional<AuthenticatedUser> get(UUID userId) {
+        return Optional.ofNullable(users.get(userId, id -> userRepository.findById(id)
+                .map(user -> new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole()))
+                .orElse(null)));
+    }
+
+    /**
+     * Dentro de uma transação a invalidação é repetida após o término: uma
+     * requisição concorrente que recarregou o usuário antes do commit teria
+     * recolocado no cache a role ou o cadastro antigos.
+     */
+    public void invalidate(UUID userId) {
+        invalidateNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidateNow(userId);
+                }
+            });
+        }
+    }
+
+    private void invalidateNow(UUID userId) {
+        users.invalidate(userId);
+        log.debug("Principal cache invalidated for user {}", userId);
+    }
+}
@@ -2,6 +2,7 @@ package com.orvian.travelapi.service.security;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.lang.NonNull;
@@ -11,11 +12,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.auth0.jwt.JWT;
-import com.orvian.travelapi.domain.model.User;
-import com.orvian.travelapi.domain.repository.UserRepository;
-import com.orvian.travelapi.service.exception.NotFoundException;
-
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,35 +25,33 @@ import lombok.extern.slf4j.Slf4j;
 public class SecurityFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         var token = this.recoverToken(request);
-        log.info("DEBUG: Token recovered: {}", token != null ? "TOKEN_EXISTS" : "NO_TOKEN");
-
-        var login = tokenService.validateToken(token);
-        log.info("DEBUG: Login from token: {}", login);
-
-        if (login != null) {
-            User user = userRepository.findById(UUID.fromString(login))
-                    .orElseThrow(() -> new NotFoundException("User not found with ID: " + login));
+        TokenClaims claims = tokenService.verify(token);
 
-            String role = JWT.decode(token).getClaim("role").asString();
+        if (claims != null) {
+            String login = claims.subject();
 
-            log.info("DEBUG: User from DB - Email: {}, Role: {}", user.getEmail(), user.getRole());
-            log.info("DEBUG: Role from token: {}", role);
+            // ✅ Usuário vem do cache de principals; o banco só é consultado em caso de miss
+            Optional<AuthenticatedUser> user = principalCache.get(UUID.fromString(login));
 
-            var authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
-            log.info("DEBUG: Authorities created: {}", authorities);
+            if (user.isPresent()) {
+                String role = user.get().role();
+                var authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
 
-            // ✅ MUDANÇA: Usar ID como principal ao invés do objeto User
-            var authentication = new UsernamePasswordAuthenticationToken(user.getId().toString(), null, authorities);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+                // ✅ MUDANÇA: Usar ID como principal ao invés do objeto User
+                var authentication = new UsernamePasswordAuthenticationToken(user.get().id().toString(), null, authorities);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.info("DEBUG: Authentication set with ID as principal: {}", user.getId());
+                log.debug("Authentication set for user {} ({}) with role {}", user.get().id(), user.get().email(), role);
+            } else {
+                log.warn("Token subject {} does not match any user, request left unauthenticated", login);
+            }
         }
         filterChain.doFilter(request, response);
     }
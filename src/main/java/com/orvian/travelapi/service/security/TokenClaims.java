@@ -0,0 +1,13 @@
+package com.orvian.travelapi.service.security;
+
+import java.time.Instant;
+
+/**
+ * Claims de um token já verificado.
+ */
+public record TokenClaims(
+        String subject,
+        String role,
+        Instant expiresAt
+) {
+}
@@ -1,5 +1,6 @@
 package com.orvian.travelapi.service.security;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -9,24 +10,55 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.orvian.travelapi.domain.model.User;
 
 @Service
 public class TokenService {
 
-    @Value("${orvian.api.security.secret}")
-    private String secret;
+    private static final String ISSUER = "orvian-travel-api";
+
+    /**
+     * Algorithm e JWTVerifier são imutáveis e thread-safe, por isso são
+     * criados uma única vez.
+     */
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+
+    /**
+     * Tokens verificados recentemente; cada entrada expira junto com o token.
+     * Nulo quando orvian.security.token-cache.max-entries é 0.
+     */
+    private final Cache<String, TokenClaims> verifiedTokens;
+
+    public TokenService(@Value("${orvian.api.security.secret}") String secret,
+            @Value("${orvian.security.token-cache.max-entries:10000}") long tokenCacheMaxEntries,
+            @Value("${orvian.security.token-cache.max-ttl:5m}") Duration tokenCacheMaxTtl) {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+        this.verifiedTokens = tokenCacheMaxEntries > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(tokenCacheMaxEntries)
+                        .expireAfter(untilTokenExpiry(tokenCacheMaxTtl))
+                        .build()
+                : null;
+    }
 
     public String generateToken(User user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
             return JWT.create()
                     .withSubject(user.getId().toString())
                     .withClaim("role", user.getRole())
-                    .withIssuer("orvian-travel-api")
+                    .withIssuer(ISSUER)
                     .withExpiresAt(Date.from(generateExpirationDate()))
                     .sign(algorithm);
         } catch (JWTCreationException exception) {
@@ -34,19 +66,61 @@ public class TokenService {
         }
     }
 
-    public String validateToken(String token) {
+    /**
+     * Verifica o token e retorna suas claims em uma única passagem, ou null
+     * se o token for ausente, inválido ou expirado.
+     */
+    public TokenClaims verify(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        if (verifiedTokens != null) {
+            TokenClaims cached = verifiedTokens.getIfPresent(token);
+            if (cached != null && isNotExpired(cached)) {
+                return cached;
+            }
+        }
+
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm)
-                    .withIssuer("orvian-travel-api")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            DecodedJWT decoded = verifier.verify(token);
+            TokenClaims claims = new TokenClaims(
+                    decoded.getSubject(),
+                    decoded.getClaim("role").asString(),
+                    decoded.getExpiresAtAsInstant());
+            if (verifiedTokens != null && claims.expiresAt() != null) {
+                verifiedTokens.put(token, claims);
+            }
+            return claims;
         } catch (JWTVerificationException e) {
             return null;
         }
     }
 
+    private static boolean isNotExpired(TokenClaims claims) {
+        return claims.expiresAt() == null || claims.expiresAt().isAfter(Instant.now());
+    }
+
+    private static Expiry<String, TokenClaims> untilTokenExpiry(Duration maxTtl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String token, TokenClaims claims, long currentTime) {
+                Duration untilExpiry = Duration.between(Instant.now(), claims.expiresAt());
+                return Math.max(0, Math.min(untilExpiry.toNanos(), maxTtl.toNanos()));
+            }
+
+            @Override
+            public long expireAfterUpdate(String token, TokenClaims claims, long currentTime, long currentDuration) {
+                return expireAfterCreate(token, claims, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String token, TokenClaims claims, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
     private Instant generateExpirationDate() {
         return LocalDateTime.now().plusHours(24).toInstant(ZoneOffset.of("-03:00"));
     }
@@ -9,24 +9,24 @@ import org.springframework.stereotype.Component;
 
 import com.orvian.travelapi.service.exception.AccessDeniedException;
 
-import lombok.RequiredArgsConstructor;
-
 @Component
-@RequiredArgsConstructor
 public class RolePermissionFactory {
 
-    private final List<RolePermissionStrategy> roleStrategies;
+    /**
+     * Mapa imutável role -> estratégia, montado uma única vez na inicialização
+     */
+    private final Map<String, RolePermissionStrategy> strategyMap;
 
-    private Map<String, RolePermissionStrategy> getStrategyMap() {
-        return roleStrategies.stream()
-                .collect(Collectors.toMap(
+    public RolePermissionFactory(List<RolePermissionStrategy> roleStrategies) {
+        this.strategyMap = roleStrategies.stream()
+                .collect(Collectors.toUnmodifiableMap(
                         RolePermissionStrategy::getRoleType,
                         Function.identity()
                 ));
     }
 
     public RolePermissionStrategy getStrategy(String roleType) {
-        RolePermissionStrategy strategy = getStrategyMap().get(roleType);
+        RolePermissionStrategy strategy = strategyMap.get(roleType);
 
         if (strategy == null) {
             throw new AccessDeniedException("Role não reconhecida: " + roleType);
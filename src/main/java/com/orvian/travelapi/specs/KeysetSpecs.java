@@ -0,0 +1,31 @@
+package com.orvian.travelapi.specs;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.orvian.travelapi.service.pagination.KeysetCursor;
+
+public class KeysetSpecs {
+
+    /**
+     * Registros posteriores ao cursor na ordem (createdAt DESC, id DESC),
+     * combinados ao filtro da listagem. Sem cursor, retorna apenas o filtro.
+     */
+    public static <T> Specification<T> after(Specification<T> filter, KeysetCursor cursor) {
+        Specification<T> base = filter != null ? filter : (root, query, cb) -> cb.conjunction();
+        if (cursor == null) {
+            return base;
+        }
+        return base.and(createdBefore(cursor));
+    }
+
+    private static <T> Specification<T> createdBefore(KeysetCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.<LocalDateTime>get("createdAt"), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.<UUID>get("id"), cursor.id())));
+    }
+}
@@ -1,7 +1,8 @@
 package com.orvian.travelapi.specs;
 
 import java.time.LocalDate;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
@@ -11,23 +12,62 @@ import com.orvian.travelapi.domain.model.TravelPackage;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 
 public class TravelPackageSpecs {
 
-    public static Specification<TravelPackage> titleLike(String title) {
-        return (root, query, cb) -> cb.like(cb.upper(root.get("title")), "%" + title.toUpperCase() + "%");
+    /**
+     * Mesmo critério do índice de busca (PackageSearchIndex): o texto pode
+     * aparecer no título ou no destino.
+     */
+    public static Specification<TravelPackage> titleOrDestinationLike(String text) {
+        return (root, query, cb) -> {
+            String pattern = "%" + text.toUpperCase() + "%";
+            return cb.or(
+                    cb.like(cb.upper(root.get("title")), pattern),
+                    cb.like(cb.upper(root.get("destination")), pattern));
+        };
     }
 
+    /**
+     * EXISTS correlacionado ao pacote: o banco busca apenas as datas do
+     * próprio pacote pelo índice (ID_PACKAGE, START_DATE) e para na primeira
+     * encontrada, em vez de montar o semi-join sobre toda TB_PACKAGES_DATES.
+     */
     public static Specification<TravelPackage> hasStartDateFrom(LocalDate startDate) {
         return (Root<TravelPackage> root, @NonNull CriteriaQuery<?> query, CriteriaBuilder cb) -> {
-            Subquery<UUID> subquery = query.subquery(UUID.class);
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<PackageDate> packageDateRoot = subquery.from(PackageDate.class);
+            subquery.select(cb.literal(1))
+                    .where(
+                            cb.equal(packageDateRoot.get("travelPackage"), root),
+                            cb.greaterThanOrEqualTo(packageDateRoot.get("startDate"), startDate));
+
+            return cb.exists(subquery);
+        };
+    }
+
+    /**
+     * Pacotes com ao menos uma saída na janela [from, to] com vagas livres
+     * suficientes. Sem "to", considera todas as saídas a partir de "from".
+     */
+    public static Specification<TravelPackage> hasAvailableDeparture(LocalDate from, LocalDate to, int seats) {
+        return (Root<TravelPackage> root, @NonNull CriteriaQuery<?> query, CriteriaBuilder cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
             Root<PackageDate> packageDateRoot = subquery.from(PackageDate.class);
-            subquery.select(packageDateRoot.get("travelPackage").get("id"))
-                    .where(cb.greaterThanOrEqualTo(packageDateRoot.get("startDate"), startDate));
 
-            return root.get("id").in(subquery);
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(packageDateRoot.get("travelPackage"), root));
+            predicates.add(cb.greaterThanOrEqualTo(packageDateRoot.get("startDate"), from));
+            if (to != null) {
+                predicates.add(cb.lessThanOrEqualTo(packageDateRoot.get("startDate"), to));
+            }
+            predicates.add(cb.greaterThanOrEqualTo(packageDateRoot.get("qtd_available"), seats));
+
+            subquery.select(cb.literal(1)).where(predicates.toArray(Predicate[]::new));
+            return cb.exists(subquery);
         };
     }
 
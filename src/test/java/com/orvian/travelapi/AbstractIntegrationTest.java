@@ -0,0 +1,34 @@
+package com.orvian.travelapi;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MSSQLServerContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base dos testes de integração: um SQL Server real (Testcontainers),
+ * compartilhado por todas as classes e com o schema gerado pelo Hibernate.
+ * Os jobs agendados ficam com intervalos longos para que cada teste dispare
+ * explicitamente o que precisa.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "orvian.api.security.secret=integration-test-secret",
+    "orvian.email.outbox.poll-interval-ms=3600000",
+    "orvian.reservation.expiry.enabled=false",
+    "orvian.search.rebuild-interval-ms=3600000",
+    "orvian.search.facets.refresh-interval-ms=3600000",
+    "orvian.dashboard.refresh-interval-ms=3600000",
+    "logging.file.name="
+})
+public abstract class AbstractIntegrationTest {
+
+    @ServiceConnection
+    static final MSSQLServerContainer<?> SQL_SERVER =
+            new MSSQLServerContainer<>("mcr.microsoft.com/mssql/server:2022-latest").acceptLicense();
+
+    static {
+        SQL_SERVER.start();
+    }
+}
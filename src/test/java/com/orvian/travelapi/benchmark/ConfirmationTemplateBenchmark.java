@@ -0,0 +1,123 @@
+package com.orvian.travelapi.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.orvian.travelapi.config.EmailConfigProperties;
+import com.orvian.travelapi.controller.dto.email.EmailConfirmationDTO;
+import com.orvian.travelapi.service.email.impl.PaymentConfirmationTemplate;
+
+/**
+ * Vazão de uma rodada de confirmações em lote (assunto + HTML de cada
+ * reserva): template pré-compilado em segmentos contra o String.format sobre
+ * o HTML inteiro usado antes.
+ *
+ * O lado legado usa o texto de formato da versão anterior do template
+ * (benchmark/payment-confirmation-legacy.html) e, como ela, cria o
+ * DateTimeFormatter a cada email. Executar pelo main com as classes de teste
+ * no classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfirmationTemplateBenchmark {
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    private PaymentConfirmationTemplate template;
+    private String legacyFormat;
+    private List<EmailConfirmationDTO> confirmations;
+
+    @Setup
+    public void setUp() throws IOException {
+        template = new PaymentConfirmationTemplate(new EmailConfigProperties());
+        try (InputStream in = ConfirmationTemplateBenchmark.class.getResourceAsStream("/benchmark/payment-confirmation-legacy.html")) {
+            legacyFormat = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        confirmations = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            confirmations.add(new EmailConfirmationDTO(
+                    UUID.randomUUID(),
+                    "Cliente " + i,
+                    "cliente" + i + "@orvian.test",
+                    "Pacote Nordeste " + (i % 50),
+                    "Salvador, Bahia",
+                    LocalDate.of(2026, 12, 1 + i % 28),
+                    LocalDate.of(2026, 12, 1 + i % 28).plusDays(7),
+                    new BigDecimal("3599.90"),
+                    "CARTAO_CREDITO",
+                    LocalDateTime.of(2026, 10, 1, 12, 0).plusMinutes(i),
+                    1 + i % 4));
+        }
+    }
+
+    @Benchmark
+    public void compiledTemplate(Blackhole blackhole) {
+        for (EmailConfirmationDTO confirmation : confirmations) {
+            blackhole.consume(template.buildSubject(confirmation));
+            blackhole.consume(template.buildHtmlContent(confirmation));
+        }
+    }
+
+    @Benchmark
+    public void legacyStringFormat(Blackhole blackhole) {
+        for (EmailConfirmationDTO confirmation : confirmations) {
+            blackhole.consume(template.buildSubject(confirmation));
+            blackhole.consume(String.format(legacyFormat,
+                    confirmation.customerName(),
+                    confirmation.reservationId(),
+                    confirmation.packageTitle(),
+                    confirmation.packageDestination(),
+                    confirmation.tripStartDate(),
+                    confirmation.tripEndDate(),
+                    confirmation.totalTravelers(),
+                    confirmation.totalAmountPaid(),
+                    confirmation.paymentMethod(),
+                    legacyDateTime(confirmation.paymentApprovedAt()),
+                    "suporte@orviantravelapi.com"));
+        }
+    }
+
+    private static String legacyDateTime(LocalDateTime dateTime) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy 'às' HH:mm", Locale.forLanguageTag("pt-BR"));
+        return dateTime.atZone(ZoneId.of("UTC")).withZoneSameInstant(ZoneId.of("America/Sao_Paulo")).format(formatter);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConfirmationTemplateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,121 @@
+package com.orvian.travelapi.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.orvian.travelapi.domain.repository.TravelPackageRepository;
+import com.orvian.travelapi.service.search.PackageSearchDocument;
+import com.orvian.travelapi.service.search.PackageSearchIndex;
+
+/**
+ * Busca textual sobre 100 mil pacotes sintéticos: índice de trigramas contra
+ * a varredura linear com contains em título e destino, equivalente ao
+ * LIKE '%x%' que o banco executava em todas as linhas de TB_PACKAGES.
+ * Executar pelo main com as classes de teste no classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackageSearchIndexBenchmark {
+
+    private static final int PACKAGES = 100_000;
+
+    private static final String[] DESTINATIONS = {
+        "São Paulo", "Rio de Janeiro", "Salvador", "Fortaleza", "Recife", "Florianópolis", "Gramado",
+        "Foz do Iguaçu", "Manaus", "Natal", "Maceió", "Porto Seguro", "Bonito", "Jericoacoara", "Paris",
+        "Lisboa", "Buenos Aires", "Santiago", "Cancún", "Orlando"
+    };
+    private static final String[] THEMES = {
+        "Praia", "Aventura", "Lua de mel", "Família", "Ecoturismo", "Gastronomia", "Cultura", "Compras",
+        "Inverno", "Réveillon", "Carnaval", "Cruzeiro"
+    };
+
+    @Param({"rio", "gramado", "lua de mel", "sao paulo familia", "zzz"})
+    private String query;
+
+    private PackageSearchIndex index;
+    private List<UUID> ids;
+    private String[] titles;
+    private String[] destinations;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<PackageSearchDocument> documents = new ArrayList<>(PACKAGES);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < PACKAGES; i++) {
+            String destination = DESTINATIONS[random.nextInt(DESTINATIONS.length)];
+            String title = THEMES[random.nextInt(THEMES.length)] + " em " + destination + " " + (i % 997);
+            documents.add(new PackageSearchDocument(UUID.randomUUID(), title, destination, base.plusMinutes(i)));
+        }
+
+        index = new PackageSearchIndex(repositoryReturning(documents));
+        index.rebuild();
+
+        ids = documents.stream().map(PackageSearchDocument::id).toList();
+        titles = documents.stream().map(document -> PackageSearchIndex.normalize(document.title())).toArray(String[]::new);
+        destinations = documents.stream().map(document -> PackageSearchIndex.normalize(document.destination())).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public List<UUID> trigramIndex() {
+        return index.search(query);
+    }
+
+    @Benchmark
+    public List<UUID> linearScan() {
+        String normalized = PackageSearchIndex.normalize(query);
+        List<UUID> matches = new ArrayList<>();
+        for (int i = 0; i < titles.length; i++) {
+            if (titles[i].contains(normalized) || destinations[i].contains(normalized)) {
+                matches.add(ids.get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * O índice só usa findAllSearchDocuments; o restante do repositório não é
+     * necessário fora do Spring.
+     */
+    private static TravelPackageRepository repositoryReturning(List<PackageSearchDocument> documents) {
+        return (TravelPackageRepository) Proxy.newProxyInstance(
+                TravelPackageRepository.class.getClassLoader(),
+                new Class<?>[]{TravelPackageRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAllSearchDocuments")) {
+                        return documents;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PackageSearchIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
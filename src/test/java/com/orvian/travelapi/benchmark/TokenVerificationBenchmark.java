@@ -0,0 +1,92 @@
+package com.orvian.travelapi.benchmark;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.orvian.travelapi.domain.model.User;
+import com.orvian.travelapi.service.security.TokenClaims;
+import com.orvian.travelapi.service.security.TokenService;
+
+/**
+ * Caminho do SecurityFilter para um token válido: a implementação anterior
+ * (Algorithm e JWTVerifier criados a cada chamada e um segundo JWT.decode
+ * para ler a role) contra TokenService.verify com o verificador reutilizado,
+ * sem e com o cache de tokens verificados. Executar pelo main com as classes
+ * de teste no classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class TokenVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+    private static final String ISSUER = "orvian-travel-api";
+
+    private TokenService uncachedService;
+    private TokenService cachedService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedService = new TokenService(SECRET, 0, Duration.ofMinutes(5));
+        cachedService = new TokenService(SECRET, 10_000, Duration.ofMinutes(5));
+
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setRole("USER");
+        token = uncachedService.generateToken(user);
+    }
+
+    @Benchmark
+    public void legacyVerifyAndDecode(Blackhole blackhole) {
+        Algorithm algorithm = Algorithm.HMAC256(SECRET);
+        String subject = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build()
+                .verify(token)
+                .getSubject();
+        DecodedJWT decoded = JWT.decode(token);
+        blackhole.consume(subject);
+        blackhole.consume(decoded.getClaim("role").asString());
+    }
+
+    @Benchmark
+    public TokenClaims reusableVerifier() {
+        return uncachedService.verify(token);
+    }
+
+    @Benchmark
+    public TokenClaims reusableVerifierWithCache() {
+        return cachedService.verify(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TokenVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,158 @@
+package com.orvian.travelapi.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orvian.travelapi.AbstractIntegrationTest;
+import com.orvian.travelapi.controller.dto.reservation.CreateReservationDTO;
+import com.orvian.travelapi.domain.enums.ReservationSituation;
+import com.orvian.travelapi.domain.model.PackageDate;
+import com.orvian.travelapi.domain.model.Reservation;
+import com.orvian.travelapi.domain.model.TravelPackage;
+import com.orvian.travelapi.domain.model.User;
+import com.orvian.travelapi.domain.repository.PackageDateRepository;
+import com.orvian.travelapi.domain.repository.ReservationRepository;
+import com.orvian.travelapi.domain.repository.TravelPackageRepository;
+import com.orvian.travelapi.domain.repository.UserRepository;
+import com.orvian.travelapi.service.exception.BusinessException;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Várias reservas simultâneas para a mesma data: apenas as que cabem nas
+ * vagas são confirmadas e o estoque termina zerado, nunca negativo. O
+ * cancelamento devolve as vagas sem desanexar o que a transação já carregou.
+ */
+class ConcurrentReservationTest extends AbstractIntegrationTest {
+
+    private static final int SEATS = 5;
+    private static final int THREADS = 20;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private TravelPackageRepository travelPackageRepository;
+
+    @Autowired
+    private PackageDateRepository packageDateRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void onlyAvailableSeatsAreBookedUnderContention() throws Exception {
+        UUID packageDateId = transactionTemplate.execute(status -> seedPackageDate(SEATS));
+        List<UUID> userIds = transactionTemplate.execute(status -> seedUsers(THREADS));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (UUID userId : userIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        reservationService.create(new CreateReservationDTO(ReservationSituation.PENDENTE,
+                                LocalDate.now(), userId, List.of(), null, packageDateId));
+                        succeeded.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failures.add(e);
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(succeeded.get()).isEqualTo(SEATS);
+        assertThat(failures).hasSize(THREADS - SEATS).allMatch(BusinessException.class::isInstance);
+        assertThat(packageDateRepository.findById(packageDateId).orElseThrow().getQtd_available()).isZero();
+        assertThat(reservationRepository.findAll())
+                .filteredOn(reservation -> reservation.getPackageDate().getId().equals(packageDateId))
+                .hasSize(SEATS);
+    }
+
+    @Test
+    void cancellingRefreshesTheLoadedDateWithoutDetachingTheReservation() {
+        UUID packageDateId = transactionTemplate.execute(status -> seedPackageDate(SEATS));
+        UUID userId = transactionTemplate.execute(status -> seedUsers(1)).get(0);
+        UUID reservationId = reservationService.create(new CreateReservationDTO(ReservationSituation.PENDENTE,
+                LocalDate.now(), userId, List.of(), null, packageDateId)).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+            assertThat(reservation.getPackageDate().getQtd_available()).isEqualTo(SEATS - 1);
+
+            reservationService.delete(reservationId);
+
+            assertThat(reservation.getPackageDate().getQtd_available()).isEqualTo(SEATS);
+            assertThat(entityManager.contains(reservation)).isTrue();
+        });
+    }
+
+    private UUID seedPackageDate(int seats) {
+        TravelPackage travelPackage = new TravelPackage();
+        travelPackage.setTitle("Pacote concorrido");
+        travelPackage.setDescription("Poucas vagas");
+        travelPackage.setDestination("Fernando de Noronha");
+        travelPackage.setDuration(5);
+        travelPackage.setPrice(new BigDecimal("4000.00"));
+        travelPackage.setMaxPeople(seats);
+        travelPackageRepository.save(travelPackage);
+
+        PackageDate packageDate = new PackageDate();
+        packageDate.setStartDate(LocalDate.now().plusMonths(2));
+        packageDate.setEndDate(LocalDate.now().plusMonths(2).plusDays(5));
+        packageDate.setQtd_available(seats);
+        packageDate.setTravelPackage(travelPackage);
+        return packageDateRepository.save(packageDate).getId();
+    }
+
+    private List<UUID> seedUsers(int count) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setName("Cliente " + i);
+            user.setEmail("cliente" + i + "-" + UUID.randomUUID() + "@orvian.test");
+            user.setPassword("not-used");
+            user.setPhone("11999990000");
+            user.setBirthDate(LocalDate.of(1990, 1, 1));
+            ids.add(userRepository.save(user).getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,73 @@
+package com.orvian.travelapi.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.orvian.travelapi.AbstractIntegrationTest;
+import com.orvian.travelapi.controller.dto.admin.DashboardDTO;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Vários pedidos simultâneos de atualização do dashboard: os que esperam a
+ * atualização em andamento recebem o snapshot dela em vez de repetir as
+ * quatro consultas cada um.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DashboardRefreshCoalescingTest extends AbstractIntegrationTest {
+
+    private static final int THREADS = 10;
+    private static final int QUERIES_PER_REFRESH = 4;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void concurrentRefreshesShareOneRun() throws Exception {
+        dashboardService.refreshWeekSnapshot();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<DashboardDTO> snapshots = new ArrayList<>();
+
+        try {
+            List<Future<DashboardDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return dashboardService.refreshWeekSnapshot();
+                }));
+            }
+
+            start.countDown();
+            for (Future<DashboardDTO> future : futures) {
+                snapshots.add(future.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(snapshots).hasSize(THREADS).doesNotContainNull();
+        // Uma atualização para o primeiro e no máximo uma para quem chegou depois dela
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2L * QUERIES_PER_REFRESH);
+        assertThat(snapshots.stream().distinct().count()).isLessThanOrEqualTo(2);
+    }
+}
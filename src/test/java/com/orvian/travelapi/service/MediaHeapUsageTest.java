@@ -0,0 +1,105 @@
+package com.orvian.travelapi.service;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orvian.travelapi.AbstractIntegrationTest;
+import com.orvian.travelapi.domain.model.Media;
+import com.orvian.travelapi.domain.model.MediaContent;
+import com.orvian.travelapi.domain.model.TravelPackage;
+import com.orvian.travelapi.domain.repository.MediaContentRepository;
+import com.orvian.travelapi.domain.repository.MediaRepository;
+import com.orvian.travelapi.domain.repository.TravelPackageRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Heap alocado ao carregar a primeira mídia de cada pacote de uma página de
+ * listagem: antes da separação, a entidade Media trazia o CONTENT64 junto
+ * (reproduzido aqui carregando Media e MediaContent); agora carregar Media
+ * não lê o binário. Medido pelos bytes alocados na thread
+ * (com.sun.management.ThreadMXBean).
+ */
+@Slf4j
+class MediaHeapUsageTest extends AbstractIntegrationTest {
+
+    private static final int PACKAGES = 20;
+    private static final int CONTENT_BYTES = 512 * 1024;
+
+    @Autowired
+    private TravelPackageService travelPackageService;
+
+    @Autowired
+    private TravelPackageRepository travelPackageRepository;
+
+    @Autowired
+    private MediaRepository mediaRepository;
+
+    @Autowired
+    private MediaContentRepository mediaContentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void loadingMediaNoLongerMaterialisesContent() {
+        List<UUID> mediaIds = transactionTemplate.execute(status -> seed());
+        long pageContentBytes = (long) PACKAGES * CONTENT_BYTES;
+
+        // Aquecimento das consultas e do mapeamento
+        mediaRepository.findAllById(mediaIds);
+        mediaContentRepository.findAllById(mediaIds);
+
+        long listing = allocatedBytes(() -> travelPackageService.findAll(0, PACKAGES, null));
+        long before = allocatedBytes(() -> {
+            mediaRepository.findAllById(mediaIds);
+            mediaContentRepository.findAllById(mediaIds);
+        });
+        long after = allocatedBytes(() -> mediaRepository.findAllById(mediaIds));
+
+        log.info("Heap allocated for {} media ({} KB of content): listing page {} KB, "
+                + "media with content (before) {} KB, media metadata only (after) {} KB",
+                PACKAGES, pageContentBytes / 1024, listing / 1024, before / 1024, after / 1024);
+
+        assertThat(before).isGreaterThanOrEqualTo(pageContentBytes);
+        assertThat(after).isLessThan(pageContentBytes / 10);
+        assertThat(listing).isLessThan(pageContentBytes / 10);
+    }
+
+    private List<UUID> seed() {
+        List<UUID> mediaIds = new ArrayList<>();
+        for (int i = 0; i < PACKAGES; i++) {
+            TravelPackage travelPackage = new TravelPackage();
+            travelPackage.setTitle("Pacote com foto " + i);
+            travelPackage.setDescription("Pacote com mídia grande");
+            travelPackage.setDestination("Bonito");
+            travelPackage.setDuration(4);
+            travelPackage.setPrice(new BigDecimal("2200.00"));
+            travelPackage.setMaxPeople(8);
+            travelPackageRepository.save(travelPackage);
+
+            Media media = new Media();
+            media.setType("image/jpg");
+            media.setTravelPackage(travelPackage);
+            mediaRepository.save(media);
+            mediaContentRepository.save(new MediaContent(media.getId(), new byte[CONTENT_BYTES]));
+            mediaIds.add(media.getId());
+        }
+        return mediaIds;
+    }
+
+    private static long allocatedBytes(Runnable action) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long start = threads.getCurrentThreadAllocatedBytes();
+        action.run();
+        return threads.getCurrentThreadAllocatedBytes() - start;
+    }
+}
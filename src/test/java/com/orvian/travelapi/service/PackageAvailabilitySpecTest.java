@@ -0,0 +1,176 @@
+package com.orvian.travelapi.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.orvian.travelapi.AbstractIntegrationTest;
+import com.orvian.travelapi.domain.model.PackageDate;
+import com.orvian.travelapi.domain.model.TravelPackage;
+import com.orvian.travelapi.domain.repository.TravelPackageRepository;
+import com.orvian.travelapi.specs.TravelPackageSpecs;
+
+import jakarta.persistence.criteria.Subquery;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compara os specs de data por EXISTS correlacionado com o filtro anterior
+ * (id IN sobre toda TB_PACKAGES_DATES): mesmo resultado para hasStartDateFrom,
+ * saídas esgotadas fora de hasAvailableDeparture e o tempo médio de cada um
+ * registrado no log, com o índice (ID_PACKAGE, START_DATE) criado.
+ */
+@Slf4j
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PackageAvailabilitySpecTest extends AbstractIntegrationTest {
+
+    private static final String DESTINATION = "Destino disponibilidade";
+    private static final int PACKAGES = 2_000;
+    private static final int DATES_PER_PACKAGE = 6;
+    private static final int SEATS = 3;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 20;
+
+    private static final LocalDate FROM = LocalDate.now().plusMonths(2);
+    private static final LocalDate TO = FROM.plusMonths(2);
+
+    @Autowired
+    private TravelPackageRepository travelPackageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Set<UUID> expectedFrom = new HashSet<>();
+    private final Set<UUID> expectedAvailable = new HashSet<>();
+
+    @BeforeAll
+    void seed() {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        List<Object[]> packages = new ArrayList<>(PACKAGES);
+        List<Object[]> dates = new ArrayList<>(PACKAGES * DATES_PER_PACKAGE);
+
+        for (int i = 0; i < PACKAGES; i++) {
+            UUID packageId = UUID.randomUUID();
+            packages.add(new Object[]{packageId.toString(), "Pacote disponibilidade " + i, "Descrição " + i,
+                DESTINATION, 7, 1500, 10, Timestamp.valueOf(now), Timestamp.valueOf(now)});
+
+            // Um a cada quatro pacotes tem todas as saídas esgotadas
+            boolean soldOut = i % 4 == 0;
+            for (int d = 0; d < DATES_PER_PACKAGE; d++) {
+                LocalDate start = LocalDate.now().plusWeeks(i % 13 + d);
+                int available = soldOut ? 0 : (i + d) % 6;
+                dates.add(new Object[]{UUID.randomUUID().toString(), Date.valueOf(start), Date.valueOf(start.plusDays(7)),
+                    available, packageId.toString(), Timestamp.valueOf(now), Timestamp.valueOf(now)});
+
+                if (!start.isBefore(FROM)) {
+                    expectedFrom.add(packageId);
+                    if (!start.isAfter(TO) && available >= SEATS) {
+                        expectedAvailable.add(packageId);
+                    }
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO TB_PACKAGES (ID, TITLE, DESCRIPTION_PACKAGE, DESTINATION, DURATION, PRICE, MAX_PEOPLE, CREATED_AT, UPDATED_AT)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """, packages);
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO TB_PACKAGES_DATES (ID, START_DATE, END_DATE, QTD_AVAILABLE, ID_PACKAGE, CREATED_AT, UPDATED_AT)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """, dates);
+        jdbcTemplate.execute("""
+            IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_PACKAGES_DATES_PACKAGE_START')
+                CREATE INDEX IX_PACKAGES_DATES_PACKAGE_START
+                    ON TB_PACKAGES_DATES (ID_PACKAGE, START_DATE) INCLUDE (QTD_AVAILABLE)
+            """);
+        jdbcTemplate.execute("UPDATE STATISTICS TB_PACKAGES_DATES");
+    }
+
+    @Test
+    void existsStartDateSpecMatchesLegacyInSubquery() {
+        Set<UUID> legacy = idsOf(legacyStartDateFrom(FROM));
+        Set<UUID> current = idsOf(TravelPackageSpecs.hasStartDateFrom(FROM));
+
+        assertThat(current).isEqualTo(legacy).isEqualTo(expectedFrom);
+
+        log.info("Saídas a partir de {}: id IN {} ms, EXISTS {} ms (média de {} páginas)", FROM,
+                averageMillis(() -> page(legacyStartDateFrom(FROM))),
+                averageMillis(() -> page(TravelPackageSpecs.hasStartDateFrom(FROM))),
+                MEASURED_RUNS);
+    }
+
+    @Test
+    void availabilitySpecSkipsSoldOutDepartures() {
+        Set<UUID> available = idsOf(TravelPackageSpecs.hasAvailableDeparture(FROM, TO, SEATS));
+
+        assertThat(available).isEqualTo(expectedAvailable);
+        assertThat(available).isNotEmpty().isNotEqualTo(idsOf(legacyStartDateFrom(FROM)));
+
+        log.info("Saídas com {} vagas entre {} e {}: id IN sem vagas {} ms, EXISTS com vagas {} ms (média de {} páginas)",
+                SEATS, FROM, TO,
+                averageMillis(() -> page(legacyStartDateFrom(FROM))),
+                averageMillis(() -> page(TravelPackageSpecs.hasAvailableDeparture(FROM, TO, SEATS))),
+                MEASURED_RUNS);
+    }
+
+    /**
+     * Filtro usado antes do EXISTS: semi-join sobre todas as datas, sem olhar
+     * as vagas.
+     */
+    private static Specification<TravelPackage> legacyStartDateFrom(LocalDate startDate) {
+        return (root, query, cb) -> {
+            Subquery<UUID> subquery = query.subquery(UUID.class);
+            var packageDateRoot = subquery.from(PackageDate.class);
+            subquery.select(packageDateRoot.get("travelPackage").get("id"))
+                    .where(cb.greaterThanOrEqualTo(packageDateRoot.get("startDate"), startDate));
+            return root.get("id").in(subquery);
+        };
+    }
+
+    private Set<UUID> idsOf(Specification<TravelPackage> spec) {
+        return travelPackageRepository.findAll(seeded().and(spec)).stream()
+                .map(TravelPackage::getId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Mesma consulta da listagem: primeira página ordenada mais a contagem.
+     */
+    private long page(Specification<TravelPackage> spec) {
+        return travelPackageRepository.findAll(spec, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))).getTotalElements();
+    }
+
+    private static Specification<TravelPackage> seeded() {
+        return (root, query, cb) -> cb.equal(root.get("destination"), DESTINATION);
+    }
+
+    private static double averageMillis(Supplier<?> run) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            run.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_RUNS;
+    }
+}
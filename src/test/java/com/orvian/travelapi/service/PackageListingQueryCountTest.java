@@ -0,0 +1,121 @@
+package com.orvian.travelapi.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orvian.travelapi.AbstractIntegrationTest;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageSearchResultDTO;
+import com.orvian.travelapi.domain.model.Media;
+import com.orvian.travelapi.domain.model.MediaContent;
+import com.orvian.travelapi.domain.model.PackageDate;
+import com.orvian.travelapi.domain.model.TravelPackage;
+import com.orvian.travelapi.domain.repository.MediaContentRepository;
+import com.orvian.travelapi.domain.repository.MediaRepository;
+import com.orvian.travelapi.domain.repository.PackageDateRepository;
+import com.orvian.travelapi.domain.repository.TravelPackageRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Garante que a listagem de pacotes executa um número fixo de comandos SQL,
+ * independente do tamanho da página (sem N+1 em datas e mídias).
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PackageListingQueryCountTest extends AbstractIntegrationTest {
+
+    private static final int PACKAGES = 30;
+    private static final int DATES_PER_PACKAGE = 3;
+    private static final int MEDIAS_PER_PACKAGE = 2;
+
+    /**
+     * Página, contagem, datas dos pacotes da página e primeira mídia de cada
+     * pacote.
+     */
+    private static final long EXPECTED_STATEMENTS = 4;
+
+    @Autowired
+    private TravelPackageService travelPackageService;
+
+    @Autowired
+    private TravelPackageRepository travelPackageRepository;
+
+    @Autowired
+    private PackageDateRepository packageDateRepository;
+
+    @Autowired
+    private MediaRepository mediaRepository;
+
+    @Autowired
+    private MediaContentRepository mediaContentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < PACKAGES; i++) {
+                TravelPackage travelPackage = new TravelPackage();
+                travelPackage.setTitle("Pacote " + i);
+                travelPackage.setDescription("Descrição do pacote " + i);
+                travelPackage.setDestination("Destino " + (i % 5));
+                travelPackage.setDuration(7);
+                travelPackage.setPrice(new BigDecimal("1500.00"));
+                travelPackage.setMaxPeople(10);
+                travelPackageRepository.save(travelPackage);
+
+                for (int d = 0; d < DATES_PER_PACKAGE; d++) {
+                    PackageDate packageDate = new PackageDate();
+                    packageDate.setStartDate(LocalDate.now().plusMonths(d + 1));
+                    packageDate.setEndDate(LocalDate.now().plusMonths(d + 1).plusDays(7));
+                    packageDate.setQtd_available(10);
+                    packageDate.setTravelPackage(travelPackage);
+                    packageDateRepository.save(packageDate);
+                }
+
+                for (int m = 0; m < MEDIAS_PER_PACKAGE; m++) {
+                    Media media = new Media();
+                    media.setType("image/png");
+                    media.setTravelPackage(travelPackage);
+                    mediaRepository.save(media);
+                    mediaContentRepository.save(new MediaContent(media.getId(), new byte[]{1, 2, 3}));
+                }
+            }
+        });
+    }
+
+    @Test
+    void listingPageRunsConstantNumberOfStatements() {
+        long smallPage = statementsFor(5);
+        long largePage = statementsFor(20);
+
+        assertThat(smallPage).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    private long statementsFor(int pageSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<PackageSearchResultDTO> page = travelPackageService.findAll(0, pageSize, null);
+
+        assertThat(page.getContent()).hasSize(pageSize);
+        assertThat(page.getContent()).allSatisfy(result -> assertThat(result.packageDates()).hasSize(DATES_PER_PACKAGE));
+        return statistics.getPrepareStatementCount();
+    }
+}
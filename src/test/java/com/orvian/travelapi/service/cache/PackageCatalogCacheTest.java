@@ -0,0 +1,50 @@
+package com.orvian.travelapi.service.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+import com.orvian.travelapi.config.CatalogCacheProperties;
+import com.orvian.travelapi.controller.dto.travelpackage.PackageSearchResultDTO;
+
+/**
+ * As marcas de invalidação por pacote são limitadas: mesmo depois que a marca
+ * de um pacote sai do cache, uma leitura iniciada antes dela não pode
+ * reinserir o pacote.
+ */
+class PackageCatalogCacheTest {
+
+    private static final int MAX_ENTRIES = 10;
+
+    @Test
+    void staleReadIsDiscardedEvenAfterItsMarkIsEvicted() {
+        CatalogCacheProperties properties = new CatalogCacheProperties();
+        properties.setMaxEntries(MAX_ENTRIES);
+        PackageCatalogCache cache = new PackageCatalogCache(properties);
+
+        UUID packageId = UUID.randomUUID();
+        long staleRead = cache.generation();
+        cache.evictAvailability(packageId);
+
+        // Muito mais pacotes alterados do que cabem nas marcas
+        for (int i = 0; i < MAX_ENTRIES * 100; i++) {
+            cache.evictAvailability(UUID.randomUUID());
+        }
+
+        cache.putDetail(dto(packageId), staleRead);
+        assertThat(cache.getDetail(packageId)).isNull();
+
+        cache.putDetail(dto(packageId), cache.generation());
+        assertThat(cache.getDetail(packageId)).isNotNull();
+    }
+
+    private static PackageSearchResultDTO dto(UUID id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PackageSearchResultDTO(id, "Pacote", "Descrição", "Destino", 5, new BigDecimal("1000.00"), 4,
+                List.of(), List.of(), now, now);
+    }
+}
@@ -0,0 +1,210 @@
+package com.orvian.travelapi.service.email;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.orvian.travelapi.AbstractIntegrationTest;
+import com.orvian.travelapi.domain.enums.EmailOutboxStatus;
+import com.orvian.travelapi.domain.model.EmailOutbox;
+import com.orvian.travelapi.domain.repository.EmailOutboxRepository;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Outbox de emails contra um SMTP real (GreenMail): nada é enviado após
+ * rollback, o envio acontece após o commit, falhas do anexo são reagendadas
+ * até max-attempts, SMTP fora do ar devolve o lote sem contar tentativa,
+ * mensagens presas em ENVIANDO voltam para a fila e o resultado de uma
+ * reserva perdida não é gravado.
+ */
+@TestPropertySource(properties = {
+    "spring.mail.host=localhost",
+    "spring.mail.port=3025",
+    "spring.mail.username=orvian",
+    "spring.mail.password=secret",
+    "spring.mail.properties.mail.smtp.starttls.enable=false",
+    "orvian.email.outbox.workers=1",
+    "orvian.email.outbox.max-attempts=2",
+    "orvian.email.outbox.initial-backoff=1m",
+    "orvian.email.outbox.sending-timeout=10m"
+})
+class EmailOutboxDispatcherTest extends AbstractIntegrationTest {
+
+    private static final String TEMPLATE = "TEST";
+    private static final String RECIPIENT = "cliente@orvian.test";
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("orvian", "secret"));
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private EmailOutboxRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearOutbox() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void rolledBackEnqueueIsNeverSent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            dispatcher.enqueue(TEMPLATE, RECIPIENT, "Rollback", "<p>Não deve sair</p>");
+            status.setRollbackOnly();
+        });
+        dispatcher.wakeUp();
+
+        assertThat(GREEN_MAIL.waitForIncomingEmail(2000, 1)).isFalse();
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    void committedEnqueueIsSentAfterCommit() throws Exception {
+        transactionTemplate.executeWithoutResult(status ->
+                dispatcher.enqueue(TEMPLATE, RECIPIENT, "Confirmação", "<p>Reserva confirmada</p>"));
+
+        assertThat(GREEN_MAIL.waitForIncomingEmail(TIMEOUT.toMillis(), 1)).isTrue();
+        MimeMessage received = GREEN_MAIL.getReceivedMessages()[0];
+        assertThat(received.getSubject()).isEqualTo("Confirmação");
+        assertThat(received.getAllRecipients()[0].toString()).isEqualTo(RECIPIENT);
+
+        await().atMost(TIMEOUT).untilAsserted(() -> {
+            EmailOutbox email = single();
+            assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.ENVIADO);
+            assertThat(email.getAttempts()).isEqualTo(1);
+            assertThat(email.getSentAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void unreachableSmtpRequeuesBatchWithoutConsumingAttempts() {
+        GREEN_MAIL.stop();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            dispatcher.enqueue(TEMPLATE, RECIPIENT, "Falha 1", "<p>SMTP fora do ar</p>");
+            dispatcher.enqueue(TEMPLATE, RECIPIENT, "Falha 2", "<p>SMTP fora do ar</p>");
+        });
+
+        // Nenhum email do lote chegou a ser tentado: voltam sem contar tentativa
+        await().atMost(TIMEOUT).untilAsserted(() -> {
+            assertThat(repository.findAll()).hasSize(2).allSatisfy(email -> {
+                assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.PENDENTE);
+                assertThat(email.getAttempts()).isZero();
+                assertThat(email.getClaimToken()).isNull();
+                assertThat(email.getLastError()).isNotBlank();
+                assertThat(email.getNextAttemptAt()).isAfter(now().plusSeconds(30));
+            });
+        });
+    }
+
+    @Test
+    void attachmentRenderFailureIsRetriedInsteadOfSendingWithoutIt() {
+        EmailOutbox email = new EmailOutbox();
+        email.setTemplateType(TEMPLATE);
+        email.setRecipient(RECIPIENT);
+        email.setSubject("Voucher");
+        email.setHtmlBody("<p>Seu voucher segue em anexo</p>");
+        email.setAttachmentType("RESERVATION_VOUCHER");
+        email.setAttachmentData("{ dados inválidos");
+        repository.save(email);
+
+        dispatcher.wakeUp();
+
+        await().atMost(TIMEOUT).untilAsserted(() -> {
+            EmailOutbox retried = single();
+            assertThat(retried.getStatus()).isEqualTo(EmailOutboxStatus.PENDENTE);
+            assertThat(retried.getAttempts()).isEqualTo(1);
+            assertThat(retried.getLastError()).contains("RESERVATION_VOUCHER");
+            assertThat(retried.getNextAttemptAt()).isAfter(now().plusSeconds(30));
+        });
+
+        // Antecipa o backoff para a segunda (e última) tentativa
+        jdbcTemplate.update("UPDATE TB_EMAIL_OUTBOX SET NEXT_ATTEMPT_AT = ?", now().minusSeconds(1));
+        dispatcher.wakeUp();
+
+        await().atMost(TIMEOUT).untilAsserted(() -> {
+            EmailOutbox failed = single();
+            assertThat(failed.getStatus()).isEqualTo(EmailOutboxStatus.FALHOU);
+            assertThat(failed.getAttempts()).isEqualTo(2);
+        });
+        assertThat(GREEN_MAIL.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void outcomeOfALostClaimIsDiscarded() {
+        UUID id = saveSending("Reservado por outro worker");
+        UUID currentToken = repository.findById(id).orElseThrow().getClaimToken();
+
+        Integer updated = transactionTemplate.execute(status -> repository.completeClaim(id, UUID.randomUUID(),
+                EmailOutboxStatus.FALHOU, 5, now(), null, "resultado de um worker atrasado", now()));
+
+        assertThat(updated).isZero();
+        EmailOutbox email = repository.findById(id).orElseThrow();
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.ENVIANDO);
+        assertThat(email.getAttempts()).isZero();
+        assertThat(email.getClaimToken()).isEqualTo(currentToken);
+    }
+
+    @Test
+    void staleSendingEmailsAreReleasedAndDelivered() {
+        UUID stale = saveSending("Preso em ENVIANDO");
+        UUID recent = saveSending("Em envio por outro worker");
+        jdbcTemplate.update("UPDATE TB_EMAIL_OUTBOX SET UPDATED_AT = ? WHERE ID = ?",
+                now().minusHours(1), stale.toString());
+
+        dispatcher.poll();
+
+        assertThat(GREEN_MAIL.waitForIncomingEmail(TIMEOUT.toMillis(), 1)).isTrue();
+        assertThat(GREEN_MAIL.getReceivedMessages()).hasSize(1);
+        await().atMost(TIMEOUT).untilAsserted(() ->
+                assertThat(repository.findById(stale).orElseThrow().getStatus()).isEqualTo(EmailOutboxStatus.ENVIADO));
+
+        EmailOutbox untouched = repository.findById(recent).orElseThrow();
+        assertThat(untouched.getStatus()).isEqualTo(EmailOutboxStatus.ENVIANDO);
+        assertThat(untouched.getClaimToken()).isNotNull();
+    }
+
+    private UUID saveSending(String subject) {
+        EmailOutbox email = new EmailOutbox();
+        email.setTemplateType(TEMPLATE);
+        email.setRecipient(RECIPIENT);
+        email.setSubject(subject);
+        email.setHtmlBody("<p>" + subject + "</p>");
+        email.setStatus(EmailOutboxStatus.ENVIANDO);
+        email.setClaimToken(UUID.randomUUID());
+        return repository.save(email).getId();
+    }
+
+    private EmailOutbox single() {
+        assertThat(repository.count()).isEqualTo(1);
+        return repository.findAll().get(0);
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,70 @@
+package com.orvian.travelapi.service.export;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.orvian.travelapi.AbstractIntegrationTest;
+import com.orvian.travelapi.domain.enums.ExportFormat;
+import com.orvian.travelapi.domain.repository.ExportJobRepository;
+import com.orvian.travelapi.service.ExportJobService;
+
+/**
+ * Várias solicitações simultâneas da mesma exportação, com os mesmos dados,
+ * devem resultar em um único job.
+ */
+class ConcurrentExportJobSubmitTest extends AbstractIntegrationTest {
+
+    private static final int THREADS = 10;
+
+    @Autowired
+    private ExportJobService exportJobService;
+
+    @Autowired
+    private ExportJobRepository exportJobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentSubmitsShareOneJob() throws Exception {
+        ReservationExportFixture fixture = new ReservationExportFixture(jdbcTemplate);
+        fixture.install();
+        fixture.seed(100);
+        exportJobRepository.deleteAll();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<UUID> jobIds = new ArrayList<>();
+
+        try {
+            List<Future<UUID>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return exportJobService.submit(ExportFormat.XLSX).id();
+                }));
+            }
+
+            start.countDown();
+            for (Future<UUID> future : futures) {
+                jobIds.add(future.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(jobIds).hasSize(THREADS).containsOnly(jobIds.get(0));
+        assertThat(exportJobRepository.count()).isEqualTo(1);
+    }
+}
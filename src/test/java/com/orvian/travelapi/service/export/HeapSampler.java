@@ -0,0 +1,75 @@
+package com.orvian.travelapi.service.export;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Amostra o heap usado (MemoryMXBean) em uma thread separada enquanto uma
+ * exportação roda e devolve o pico acima do valor inicial.
+ *
+ * Em {@link #peakUsed()} o valor inclui lixo ainda não coletado, como um
+ * profiler mostraria. Em {@link #liveSet()} cada amostra é precedida de um
+ * GC, medindo apenas o que continua referenciado: é o número que cresce
+ * quando uma exportação acumula linhas em memória.
+ */
+final class HeapSampler {
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final long intervalMillis;
+    private final boolean collectBeforeSample;
+    private final AtomicLong peak = new AtomicLong();
+    private final long baseline;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private HeapSampler(long intervalMillis, boolean collectBeforeSample) {
+        this.intervalMillis = intervalMillis;
+        this.collectBeforeSample = collectBeforeSample;
+        memory.gc();
+        this.baseline = used();
+        this.peak.set(baseline);
+        this.thread = Thread.ofPlatform().name("heap-sampler").daemon().start(this::sampleUntilStopped);
+    }
+
+    static HeapSampler peakUsed() {
+        return new HeapSampler(10, false);
+    }
+
+    static HeapSampler liveSet() {
+        return new HeapSampler(100, true);
+    }
+
+    /**
+     * Para a amostragem e retorna o pico, em bytes, acima do heap usado no
+     * início.
+     */
+    long stop() throws InterruptedException {
+        running = false;
+        thread.join();
+        return Math.max(0, peak.get() - baseline);
+    }
+
+    private void sampleUntilStopped() {
+        while (running) {
+            sample();
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void sample() {
+        if (collectBeforeSample) {
+            memory.gc();
+        }
+        peak.accumulateAndGet(used(), Math::max);
+    }
+
+    private long used() {
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
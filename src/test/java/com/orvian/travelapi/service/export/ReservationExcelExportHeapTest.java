@@ -0,0 +1,55 @@
+package com.orvian.travelapi.service.export;
+
+import java.io.OutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.orvian.travelapi.AbstractIntegrationTest;
+import com.orvian.travelapi.service.ReservationService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A exportação Excel (cursor do streamToSheet + SXSSF) deve manter o heap
+ * estável: com 10 vezes mais linhas, o pico do que continua referenciado
+ * durante a geração não pode crescer junto.
+ */
+@Slf4j
+class ReservationExcelExportHeapTest extends AbstractIntegrationTest {
+
+    private static final int ROWS = 10_000;
+    private static final long TOLERANCE_BYTES = 32L * 1024 * 1024;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void peakHeapDoesNotGrowWithRowCount() throws InterruptedException {
+        ReservationExportFixture fixture = new ReservationExportFixture(jdbcTemplate);
+        fixture.install();
+
+        // Aquecimento: carga de classes e caches do POI fora da medição
+        fixture.seed(1_000);
+        reservationService.exportReservationsToExcel(OutputStream.nullOutputStream());
+
+        long small = liveHeapExporting(fixture, ROWS);
+        long large = liveHeapExporting(fixture, ROWS * 10);
+
+        log.info("Excel export live heap: {} rows +{} KB, {} rows +{} KB",
+                ROWS, small / 1024, ROWS * 10, large / 1024);
+        assertThat(large).isLessThanOrEqualTo(small + TOLERANCE_BYTES);
+    }
+
+    private long liveHeapExporting(ReservationExportFixture fixture, int rows) throws InterruptedException {
+        fixture.seed(rows);
+        HeapSampler heap = HeapSampler.liveSet();
+        reservationService.exportReservationsToExcel(OutputStream.nullOutputStream());
+        return heap.stop();
+    }
+}
@@ -0,0 +1,87 @@
+package com.orvian.travelapi.service.export;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Massa para os testes de exportação: cria a view
+ * VW_RESERVATIONS_WITH_PACKAGE (mantida fora do Hibernate, no banco) e gera
+ * reservas em lote com um único INSERT ... SELECT, para chegar a centenas de
+ * milhares de linhas em poucos segundos.
+ */
+final class ReservationExportFixture {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String userId = UUID.randomUUID().toString();
+    private final String packageDateId = UUID.randomUUID().toString();
+
+    ReservationExportFixture(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * View com as colunas na ordem e com os nomes de ReservationToSheetDTO,
+     * um usuário, um pacote e uma data de pacote para as reservas geradas.
+     */
+    void install() {
+        jdbcTemplate.execute("""
+            CREATE OR ALTER VIEW VW_RESERVATIONS_WITH_PACKAGE AS
+            SELECT
+                CAST(r.ID AS VARCHAR(36)) AS reservationId,
+                CAST(p.ID AS VARCHAR(36)) AS packageId,
+                p.PRICE AS price,
+                p.TITLE AS packageTitle,
+                r.RESERVATION_DATE AS reservationDate,
+                r.SITUATION AS situation,
+                u.EMAIL AS userEmail,
+                (SELECT COUNT(*) FROM TB_TRAVELERS t WHERE t.ID_RESERVATION = r.ID) AS qtdViajantes,
+                r.CANCEL_DATE AS cancelDate
+            FROM TB_RESERVATIONS r
+            INNER JOIN TB_USERS u ON u.ID = r.ID_USER
+            INNER JOIN TB_PACKAGES_DATES d ON d.ID = r.ID_PACKAGES_DATES
+            INNER JOIN TB_PACKAGES p ON p.ID = d.ID_PACKAGE
+            """);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC));
+        String packageId = UUID.randomUUID().toString();
+        jdbcTemplate.update("""
+            INSERT INTO TB_USERS (ID, NAME, EMAIL, PASSWORD, PHONE, BIRTHDATE, ROLE, CREATED_AT, UPDATED_AT)
+            VALUES (?, 'Cliente exportação', ?, 'not-used', '11999990000', '1990-01-01', 'USER', ?, ?)
+            """, userId, "exportacao-" + userId + "@orvian.test", now, now);
+        jdbcTemplate.update("""
+            INSERT INTO TB_PACKAGES (ID, TITLE, DESCRIPTION_PACKAGE, DESTINATION, DURATION, PRICE, MAX_PEOPLE, CREATED_AT, UPDATED_AT)
+            VALUES (?, 'Pacote exportação', 'Reservas geradas para exportação', 'Salvador', 7, 3599.90, 10, ?, ?)
+            """, packageId, now, now);
+        jdbcTemplate.update("""
+            INSERT INTO TB_PACKAGES_DATES (ID, START_DATE, END_DATE, QTD_AVAILABLE, ID_PACKAGE, CREATED_AT, UPDATED_AT)
+            VALUES (?, ?, ?, 0, ?, ?, ?)
+            """, packageDateId, LocalDate.now().plusMonths(1), LocalDate.now().plusMonths(1).plusDays(7),
+                packageId, now, now);
+    }
+
+    /**
+     * Substitui as reservas da data de pacote da massa por {@code rows}
+     * reservas, um terço de cada situação.
+     */
+    void seed(int rows) {
+        jdbcTemplate.update("DELETE FROM TB_RESERVATIONS WHERE ID_PACKAGES_DATES = ?", packageDateId);
+        jdbcTemplate.update("""
+            WITH numbers AS (
+                SELECT TOP (?) ROW_NUMBER() OVER (ORDER BY (SELECT NULL)) AS n
+                FROM sys.all_objects a CROSS JOIN sys.all_objects b
+            )
+            INSERT INTO TB_RESERVATIONS (ID, RESERVATION_DATE, SITUATION, CANCEL_DATE, ID_USER, ID_PACKAGES_DATES, CREATED_AT, UPDATED_AT)
+            SELECT NEWID(),
+                DATEADD(DAY, -CAST(n % 365 AS INT), CAST(SYSUTCDATETIME() AS DATE)),
+                CASE n % 3 WHEN 0 THEN 'CANCELADA' WHEN 1 THEN 'CONFIRMADA' ELSE 'PENDENTE' END,
+                CASE WHEN n % 3 = 0 THEN CAST(SYSUTCDATETIME() AS DATE) END,
+                ?, ?, SYSUTCDATETIME(), SYSUTCDATETIME()
+            FROM numbers
+            """, rows, userId, packageDateId);
+    }
+}
@@ -0,0 +1,95 @@
+package com.orvian.travelapi.service.export;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.orvian.travelapi.AbstractIntegrationTest;
+import com.orvian.travelapi.service.ReservationService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exportação de reservas em PDF com 10 mil, 100 mil e 500 mil linhas:
+ * registra no log o tempo até o primeiro byte, o tempo total, o tamanho do
+ * arquivo e o pico de heap durante a geração. O PDF vai para um stream que
+ * apenas conta os bytes, como a resposta HTTP que não guarda o conteúdo.
+ *
+ * Demorado (a massa de 500 mil linhas leva minutos para virar PDF), por isso
+ * só roda com {@code -Dorvian.benchmarks=true}.
+ */
+@Slf4j
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "orvian.benchmarks", matches = "true")
+class ReservationPdfExportBenchmarkTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ReservationExportFixture fixture;
+
+    @BeforeAll
+    void install() {
+        fixture = new ReservationExportFixture(jdbcTemplate);
+        fixture.install();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000, 500_000})
+    void timeToFirstByteAndPeakHeap(int rows) throws InterruptedException {
+        fixture.seed(rows);
+
+        CountingOutputStream out = new CountingOutputStream();
+        HeapSampler heap = HeapSampler.peakUsed();
+        long start = System.nanoTime();
+        try {
+            reservationService.exportReservationsToPdf(out);
+        } finally {
+            out.finishedAt = System.nanoTime();
+        }
+        long peakHeap = heap.stop();
+
+        assertThat(out.bytes).isPositive();
+        log.info("PDF export of {} rows: first byte after {} ms, finished in {} ms, {} KB, peak heap +{} MB",
+                rows,
+                TimeUnit.NANOSECONDS.toMillis(out.firstByteAt - start),
+                TimeUnit.NANOSECONDS.toMillis(out.finishedAt - start),
+                out.bytes / 1024,
+                peakHeap / (1024 * 1024));
+    }
+
+    /**
+     * Descarta o conteúdo, guardando apenas o total de bytes e o instante do
+     * primeiro write.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long firstByteAt;
+        private long finishedAt;
+
+        @Override
+        public void write(int b) {
+            write(null, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (len > 0 && bytes == 0) {
+                firstByteAt = System.nanoTime();
+            }
+            bytes += len;
+        }
+    }
+}
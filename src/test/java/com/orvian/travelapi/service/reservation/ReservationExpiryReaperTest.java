@@ -0,0 +1,164 @@
+package com.orvian.travelapi.service.reservation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.orvian.travelapi.AbstractIntegrationTest;
+import com.orvian.travelapi.config.ReservationExpiryProperties;
+import com.orvian.travelapi.controller.dto.admin.ReservationExpiryRunDTO;
+import com.orvian.travelapi.controller.dto.reservation.CreateReservationDTO;
+import com.orvian.travelapi.domain.enums.ReservationSituation;
+import com.orvian.travelapi.domain.model.PackageDate;
+import com.orvian.travelapi.domain.model.TravelPackage;
+import com.orvian.travelapi.domain.model.User;
+import com.orvian.travelapi.domain.repository.PackageDateRepository;
+import com.orvian.travelapi.domain.repository.ReservationRepository;
+import com.orvian.travelapi.domain.repository.TravelPackageRepository;
+import com.orvian.travelapi.domain.repository.UserRepository;
+import com.orvian.travelapi.service.ReservationService;
+import com.orvian.travelapi.service.SeatInventoryService;
+import com.orvian.travelapi.service.search.PackageFacetStore;
+
+/**
+ * Duas rodadas simultâneas do reaper (como em duas instâncias da API) sobre
+ * as mesmas reservas expiradas: cada reserva é cancelada uma única vez e as
+ * vagas voltam exatamente ao total original.
+ */
+@TestPropertySource(properties = "orvian.reservation.expiry.batch-size=2")
+class ReservationExpiryReaperTest extends AbstractIntegrationTest {
+
+    private static final int SEATS = 10;
+    private static final int HOLDS = 6;
+
+    @Autowired
+    private ReservationExpiryReaper reaper;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private PackageFacetStore facetStore;
+
+    @Autowired
+    private ReservationExpiryProperties properties;
+
+    @Autowired
+    private TravelPackageRepository travelPackageRepository;
+
+    @Autowired
+    private PackageDateRepository packageDateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentRunsReleaseEachHoldOnce() throws Exception {
+        UUID packageDateId = transactionTemplate.execute(status -> seedPackageDate());
+        for (UUID userId : transactionTemplate.execute(status -> seedUsers(HOLDS))) {
+            reservationService.create(new CreateReservationDTO(ReservationSituation.PENDENTE,
+                    LocalDate.now(), userId, List.of(), null, packageDateId));
+        }
+        assertThat(availableSeats(packageDateId)).isEqualTo(SEATS - HOLDS);
+
+        LocalDateTime expired = LocalDateTime.now(ZoneOffset.UTC).minus(properties.getHoldTtl()).minusHours(1);
+        jdbcTemplate.update("UPDATE TB_RESERVATIONS SET CREATED_AT = ? WHERE ID_PACKAGES_DATES = ?",
+                expired, packageDateId.toString());
+
+        // Segunda instância com as mesmas dependências: não compartilha o
+        // lock em memória, como um segundo nó da API
+        ReservationExpiryReaper otherNode = new ReservationExpiryReaper(reservationRepository,
+                seatInventoryService, facetStore, properties, transactionTemplate);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<ReservationExpiryRunDTO> runs = new ArrayList<>();
+        try {
+            List<Future<ReservationExpiryRunDTO>> futures = new ArrayList<>();
+            for (ReservationExpiryReaper node : List.of(reaper, otherNode)) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return node.expireHolds();
+                }));
+            }
+            start.countDown();
+            for (Future<ReservationExpiryRunDTO> future : futures) {
+                runs.add(future.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(runs.stream().mapToInt(ReservationExpiryRunDTO::cancelledReservations).sum()).isEqualTo(HOLDS);
+        assertThat(runs.stream().mapToInt(ReservationExpiryRunDTO::releasedSeats).sum()).isEqualTo(HOLDS);
+        assertThat(availableSeats(packageDateId)).isEqualTo(SEATS);
+        assertThat(reservationRepository.findAll())
+                .filteredOn(reservation -> reservation.getPackageDate().getId().equals(packageDateId))
+                .hasSize(HOLDS)
+                .allMatch(reservation -> reservation.getSituation() == ReservationSituation.CANCELADA);
+    }
+
+    private int availableSeats(UUID packageDateId) {
+        return packageDateRepository.findById(packageDateId).orElseThrow().getQtd_available();
+    }
+
+    private UUID seedPackageDate() {
+        TravelPackage travelPackage = new TravelPackage();
+        travelPackage.setTitle("Pacote com reservas expiradas");
+        travelPackage.setDescription("Reservas sem pagamento");
+        travelPackage.setDestination("Chapada Diamantina");
+        travelPackage.setDuration(5);
+        travelPackage.setPrice(new BigDecimal("2500.00"));
+        travelPackage.setMaxPeople(SEATS);
+        travelPackageRepository.save(travelPackage);
+
+        PackageDate packageDate = new PackageDate();
+        packageDate.setStartDate(LocalDate.now().plusMonths(3));
+        packageDate.setEndDate(LocalDate.now().plusMonths(3).plusDays(5));
+        packageDate.setQtd_available(SEATS);
+        packageDate.setTravelPackage(travelPackage);
+        return packageDateRepository.save(packageDate).getId();
+    }
+
+    private List<UUID> seedUsers(int count) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setName("Cliente expirado " + i);
+            user.setEmail("expirado" + i + "-" + UUID.randomUUID() + "@orvian.test");
+            user.setPassword("not-used");
+            user.setPhone("11999990000");
+            user.setBirthDate(LocalDate.of(1990, 1, 1));
+            ids.add(userRepository.save(user).getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,105 @@
+package com.orvian.travelapi.service.security;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.orvian.travelapi.AbstractIntegrationTest;
+import com.orvian.travelapi.domain.model.User;
+import com.orvian.travelapi.domain.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Vazão de um endpoint autenticado (GET /api/v1/admin/catalog-cache, que não
+ * consulta o banco) com o principal vindo do PrincipalCache contra o caminho
+ * anterior, em que o SecurityFilter buscava o usuário por findById a cada
+ * requisição. O caminho anterior é reproduzido invalidando a entrada antes de
+ * cada chamada, o que força o findById no SecurityFilter.
+ */
+@Slf4j
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PrincipalCacheThroughputTest extends AbstractIntegrationTest {
+
+    private static final String ENDPOINT = "/api/v1/admin/catalog-cache";
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int MEASURED_REQUESTS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void cachedPrincipalSkipsTheDatabaseAndServesMoreRequests() throws Exception {
+        User admin = new User();
+        admin.setName("Administrador");
+        admin.setEmail("admin-" + UUID.randomUUID() + "@orvian.test");
+        admin.setPassword("not-used");
+        admin.setPhone("11999990000");
+        admin.setBirthDate(LocalDate.of(1990, 1, 1));
+        admin.setRole("ADMIN");
+        admin = userRepository.save(admin);
+        String authorization = "Bearer " + tokenService.generateToken(admin);
+
+        Run findByIdPerRequest = measure(authorization, admin.getId(), true);
+        Run cached = measure(authorization, admin.getId(), false);
+
+        log.info("Authenticated {}: findById per request {} req/s ({} statements), principal cache {} req/s ({} statements)",
+                ENDPOINT, findByIdPerRequest.requestsPerSecond(), findByIdPerRequest.statements(),
+                cached.requestsPerSecond(), cached.statements());
+
+        assertThat(findByIdPerRequest.statements()).isGreaterThanOrEqualTo(MEASURED_REQUESTS);
+        assertThat(cached.statements()).isZero();
+        assertThat(cached.requestsPerSecond()).isGreaterThan(findByIdPerRequest.requestsPerSecond());
+    }
+
+    private Run measure(String authorization, UUID userId, boolean invalidateEachRequest) throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            request(authorization, userId, invalidateEachRequest);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            request(authorization, userId, invalidateEachRequest);
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Run(MEASURED_REQUESTS * 1_000_000_000L / elapsed, statistics.getPrepareStatementCount());
+    }
+
+    private void request(String authorization, UUID userId, boolean invalidate) throws Exception {
+        if (invalidate) {
+            principalCache.invalidate(userId);
+        }
+        mockMvc.perform(get(ENDPOINT).header("Authorization", authorization))
+                .andExpect(status().isOk());
+    }
+
+    private record Run(long requestsPerSecond, long statements) {
+
+    }
+}